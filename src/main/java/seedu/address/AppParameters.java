@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,11 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private Integer serverPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +32,42 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to serve commands on without the GUI, or null if the GUI should be started.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started. Only named parameters of the form
+     * {@code --name=value} are read, as JavaFX does.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +76,28 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String serverPortParameter = namedParameters.get("server-port");
+        if (serverPortParameter != null) {
+            appParameters.setServerPort(parseServerPort(serverPortParameter));
+        }
+
         return appParameters;
     }
 
+    private static Integer parseServerPort(String serverPortParameter) {
+        int serverPort;
+        try {
+            serverPort = Integer.parseInt(serverPortParameter.trim());
+        } catch (NumberFormatException e) {
+            serverPort = -1;
+        }
+        if (serverPort < 0 || serverPort > MAX_PORT) {
+            logger.warning("Invalid server port " + serverPortParameter + ". Starting the GUI instead.");
+            return null;
+        }
+        return serverPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +110,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, serverPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("serverPort", serverPort)
                 .toString();
     }
 }
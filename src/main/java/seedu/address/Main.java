@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -24,7 +25,13 @@ import seedu.address.commons.core.LogsCenter;
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getServerPort() != null) {
+            // Serves commands over HTTP without starting JavaFX at all
+            MainApp.runHeadless(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,8 +23,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.CommandServer;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,25 +48,75 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private long initStartTime;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        initComponents(AppParameters.parse(getParameters()));
+        ui = new UiManager(logic);
+        // stop() is not called if the JVM is stopped while the window is open
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushOnShutdown, "address-book-flush"));
+    }
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+    private void flushOnShutdown() {
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book on shutdown " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Loads the config, user prefs and address book, and creates every component except the UI.
+     */
+    private void initComponents(AppParameters appParameters) {
+        initStartTime = System.nanoTime();
+
+        long phaseStartTime = System.nanoTime();
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logPhase("config and preferences load", phaseStartTime);
+
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Runs the application without the GUI, serving commands over HTTP on the port in {@code appParameters} until
+     * the process is stopped. The address book and user prefs are saved on the way out, as when the GUI is closed.
+     */
+    static void runHeadless(AppParameters appParameters) throws IOException {
+        logger.info("=========================[ Initializing headless AddressBook ]=======================");
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+
+        CommandServer server = new CommandServer(app.logic, appParameters.getServerPort());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            // Waits for the running command, and keeps later ones from changing the data after the last save
+            app.logic.getAddressBookLock().writeLock().lock();
+            app.stop();
+        }, "headless-shutdown"));
+        server.start();
+        app.logPhase("total startup", app.initStartTime);
+    }
+
+    /**
+     * Logs the time taken by a startup phase that began at {@code phaseStartTime}, as given by
+     * {@link System#nanoTime()}.
+     */
+    private void logPhase(String phase, long phaseStartTime) {
+        long elapsedMillis = (System.nanoTime() - phaseStartTime) / 1_000_000;
+        logger.info("Startup phase '" + phase + "' took " + elapsedMillis + " ms");
     }
 
     /**
@@ -77,6 +129,7 @@ public class MainApp extends Application {
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        long phaseStartTime = System.nanoTime();
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
@@ -89,8 +142,12 @@ public class MainApp extends Application {
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
+        logPhase("storage read", phaseStartTime);
 
-        return new ModelManager(initialData, userPrefs);
+        phaseStartTime = System.nanoTime();
+        Model modelManager = new ModelManager(initialData, userPrefs);
+        logPhase("model build", phaseStartTime);
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -171,12 +228,31 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        long phaseStartTime = System.nanoTime();
         ui.start(primaryStage);
+        logPhase("main window setup", phaseStartTime);
+
+        Scene scene = primaryStage.getScene();
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    scene.removePostLayoutPulseListener(this);
+                    logPhase("first frame", phaseStartTime);
+                    logPhase("total startup", initStartTime);
+                }
+            });
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,13 +1,18 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
 
@@ -24,6 +29,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread and returns a future of the result.
+     * Commands run one at a time, in the order they were submitted.
+     * If the command fails, the future completes with a {@code CompletionException} caused by the
+     * {@code CommandException} or {@code ParseException} that {@link #execute(String)} would have thrown.
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Executes the already parsed {@code command} on the command thread, as {@link #executeAsync(String)} does, for
+     * callers that parsed the command text themselves.
+     * If the command fails, the future completes with a {@code CompletionException} caused by the
+     * {@code CommandException}.
+     */
+    CompletableFuture<CommandResult> executeAsync(Command command);
+
     /**
      * Returns the AddressBook.
      *
@@ -31,6 +53,27 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the lock that guards the address book. Commands hold its write lock while they run.
+     *
+     * @see seedu.address.model.Model#getAddressBookLock()
+     */
+    ReadWriteLock getAddressBookLock();
+
+    /**
+     * Returns up to {@code limit} persons whose phone numbers start with {@code prefix}, in order of phone number.
+     * Safe to call while commands run on other threads, and never waits for them: returns an empty list if a command
+     * is changing the address book.
+     */
+    List<Person> getPersonsWithPhonePrefix(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} persons whose names start with {@code prefix}, ignoring case, in order of name.
+     * Safe to call while commands run on other threads, and never waits for them: returns an empty list if a command
+     * is changing the address book.
+     */
+    List<Person> getPersonsWithNamePrefix(String prefix, int limit);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -42,6 +85,11 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns a copy of the user prefs, which later changes to the user prefs do not affect.
+     */
+    ReadOnlyUserPrefs getUserPrefs();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -3,6 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,8 +21,11 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -34,6 +45,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Runs commands from executeAsync one at a time; created on first use
+    private ExecutorService commandExecutor;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -46,20 +60,93 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(addressBookParser.parseCommand(commandText));
+    }
 
+    /**
+     * Executes the already parsed {@code command} and saves the address book if it changed.
+     */
+    private CommandResult execute(Command command) throws CommandException {
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
 
+        // Readers on other threads see the address book either before or after the whole command, never halfway
+        Lock writeLock = model.getAddressBookLock().writeLock();
+        writeLock.lock();
+        try {
+            long versionBeforeCommand = model.getAddressBookVersion();
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException e) {
+                // A command may have changed the address book before failing
+                saveAddressBookIfChanged(versionBeforeCommand, false);
+                throw e;
+            }
+
+            saveAddressBookIfChanged(versionBeforeCommand, commandResult.isExit());
+        } finally {
+            writeLock.unlock();
+        }
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        }, getCommandExecutor());
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(Command command) {
+        return CompletableFuture.supplyAsync(() -> {
+            logger.info("----------------[USER COMMAND][" + command + "]");
+            try {
+                return execute(command);
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, getCommandExecutor());
+    }
+
+    /**
+     * Returns the single thread that runs commands from {@link #executeAsync(String)}. Only one thread changes the
+     * model, so commands never interleave and run in the order they were entered.
+     */
+    private synchronized ExecutorService getCommandExecutor() {
+        if (commandExecutor == null) {
+            commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-executor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return commandExecutor;
+    }
+
+    /**
+     * Saves the address book if it changed since it was at {@code versionBeforeCommand}, so that read-only commands
+     * do not write to storage. If {@code isFlushNeeded}, also waits for all saves to be written.
+     * A background save that failed earlier is reported even when nothing is saved, so that it is never hidden by
+     * read-only commands.
+     */
+    private void saveAddressBookIfChanged(long versionBeforeCommand, boolean isFlushNeeded) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.checkFailedSave();
+            if (model.getAddressBookVersion() != versionBeforeCommand) {
+                storage.saveAddressBook(model.getAddressBook());
+            }
+            if (isFlushNeeded) {
+                storage.flush();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -67,6 +154,38 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadWriteLock getAddressBookLock() {
+        return model.getAddressBookLock();
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhonePrefix(String prefix, int limit) {
+        return readAddressBookIfFree(addressBook -> addressBook.getPersonsWithPhonePrefix(prefix, limit), List.of());
+    }
+
+    @Override
+    public List<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+        return readAddressBookIfFree(addressBook -> addressBook.getPersonsWithNamePrefix(prefix, limit), List.of());
+    }
+
+    /**
+     * Applies {@code query} to the address book under its read lock, so that it never sees a command halfway.
+     * Returns {@code whenBusy} instead of waiting if a command holds the address book, so that the JavaFX thread is
+     * never blocked by a long command.
+     */
+    private <T> T readAddressBookIfFree(Function<AddressBook, T> query, T whenBusy) {
+        Lock readLock = model.getAddressBookLock().readLock();
+        if (!readLock.tryLock()) {
+            return whenBusy;
+        }
+        try {
+            return query.apply((AddressBook) model.getAddressBook());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -82,6 +201,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return new UserPrefs(model.getUserPrefs());
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
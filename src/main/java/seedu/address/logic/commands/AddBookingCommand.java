@@ -14,6 +14,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -41,6 +42,10 @@ public class AddBookingCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New booking added: \n%1$s";
     public static final String MESSAGE_INVALID_PERSON = "No person with the given phone number exists";
     public static final String MESSAGE_PAST_BOOKING_WARNING = "Warning: You are adding a booking for a past date!";
+    public static final String MESSAGE_OVER_CAPACITY = "Only %1$d of %2$d seats are free while this booking "
+            + "would be seated, but it is for %3$d";
+    public static final String MESSAGE_OVER_CAPACITY_WARNING = "Warning: This booking overbooks the restaurant! "
+            + MESSAGE_OVER_CAPACITY + ".";
 
     // Store these instead of a whole Booking object
     // because a booking should only be created after
@@ -68,17 +73,15 @@ public class AddBookingCommand extends Command {
         requireNonNull(model);
         AddressBook addressBook = (AddressBook) model.getAddressBook();
 
-        Person bookingMaker = null;
-        for (Person person : addressBook.getPersonList()) {
-            if (person.getPhone().equals(phoneToAdd)) {
-                bookingMaker = person;
-            }
-        }
+        Person bookingMaker = addressBook.getPersonByPhone(phoneToAdd);
         if (bookingMaker == null) {
             throw new CommandException(MESSAGE_INVALID_PERSON);
         }
 
-        Booking toAdd = new Booking(bookingMaker, bookingDateToAdd, remarkToAdd, paxToAdd);
+        String overCapacityWarning = checkCapacity(addressBook, model.getUserPrefs());
+
+        Booking toAdd = new Booking(addressBook.nextBookingId(), bookingMaker, bookingDateToAdd, remarkToAdd,
+                paxToAdd);
 
         // Add booking to bookingMaker's bookings set
         bookingMaker.addBookingID(toAdd.getBookingId());
@@ -90,13 +93,36 @@ public class AddBookingCommand extends Command {
         model.setPerson(bookingMaker, bookingMaker);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
+        String warnings = overCapacityWarning;
         if (bookingDateToAdd.isBefore(LocalDateTime.now())) {
-            return new CommandResult(
-                    MESSAGE_PAST_BOOKING_WARNING + "\n" + String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
-            );
+            warnings = MESSAGE_PAST_BOOKING_WARNING + "\n" + warnings;
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        return new CommandResult(warnings + String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+    }
+
+    /**
+     * Checks that the seats taken while the new booking would be seated leave room for it.
+     *
+     * @return a warning to show if the booking overbooks the restaurant and that is allowed, or an empty string.
+     * @throws CommandException if the booking overbooks the restaurant and that is not allowed.
+     */
+    private String checkCapacity(AddressBook addressBook, ReadOnlyUserPrefs userPrefs) throws CommandException {
+        int capacity = userPrefs.getSeatingCapacity();
+        if (capacity <= 0) {
+            return "";
+        }
+
+        long seatsTaken = addressBook.getPeakSeatsTakenDuring(bookingDateToAdd);
+        if (seatsTaken + paxToAdd <= capacity) {
+            return "";
+        }
+
+        long seatsFree = Math.max(0, capacity - seatsTaken);
+        if (!userPrefs.isOverbookingAllowed()) {
+            throw new CommandException(String.format(MESSAGE_OVER_CAPACITY, seatsFree, capacity, paxToAdd));
+        }
+        return String.format(MESSAGE_OVER_CAPACITY_WARNING, seatsFree, capacity, paxToAdd) + "\n";
     }
 
     @Override
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command only reads the address book. Such a command may still change which persons and
+     * bookings the {@code Model} shows, so it can also be run against a private view of the address book.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -14,6 +14,7 @@ import java.util.List;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
@@ -66,8 +67,9 @@ public class EditBookingCommand extends Command {
                 .findFirst()
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_BOOKING_NOT_FOUND, bookingId)));
 
-        // Use the instance method in Booking to update the fields
-        bookingToEdit.updateFields(fieldsToEdit);
+        // Update through the address book so that its booking indexes stay in sync
+        AddressBook addressBook = (AddressBook) model.getAddressBook();
+        addressBook.updateBookingFields(bookingId, fieldsToEdit);
         Person bookingMaker = bookingToEdit.getBookingPerson();
 
         model.updateFilteredBookingList(PREDICATE_SHOW_UPCOMING_BOOKINGS);
@@ -20,7 +20,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -88,13 +87,6 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_PHONE_NUMBER_EDIT_DISALLOWED);
         }
 
-        List<Booking> bookingList = model.getAddressBook().getBookingList().stream()
-                .filter(booking -> editedPerson.getBookingIDs().contains(booking.getBookingId()))
-                .toList();
-        for (Booking booking : bookingList) {
-            booking.setBookingPerson(editedPerson);
-        }
-
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredBookingList(Model.PREDICATE_SHOW_ALL_BOOKINGS);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
@@ -3,104 +3,150 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingQuery;
 import seedu.address.model.booking.Status;
-import seedu.address.model.person.Person;
+import seedu.address.model.booking.TimeWindow;
 import seedu.address.model.person.Phone;
 
 /**
- * Changes the remark of an existing person in the address book.
+ * Lists the bookings that match a phone number, a date or date range, a time of day and a status.
  */
 public class FilterCommand extends Command {
 
     public static final String COMMAND_WORD = "filter";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Filters the bookings by phone number, date, status or all.\n"
-            + "Parameters: [p/PHONE_NUMBER] [d/DATE] [s/STATUS]\n"
+            + ": Filters the bookings by phone number, date, date range, time of day, status or all.\n"
+            + "Parameters: [p/PHONE_NUMBER] [d/DATE | [from/DATE_OR_DATE_TIME] [to/DATE_OR_DATE_TIME] | next/DAYS] "
+            + "[time/START_TIME-END_TIME] [s/STATUS]\n"
             + "At least one parameter must be provided.\n"
             + "Example 1: " + COMMAND_WORD + " p/98765432\n"
             + "Example 2: " + COMMAND_WORD + " d/2023-12-25\n"
             + "Example 3: " + COMMAND_WORD + " s/COMPLETED\n"
-            + "Example 4: " + COMMAND_WORD + " p/98765432 d/2023-12-25 s/upcoming";
+            + "Example 4: " + COMMAND_WORD + " p/98765432 d/2023-12-25 s/upcoming\n"
+            + "Example 5: " + COMMAND_WORD + " from/2023-12-22 6:00 PM to/2023-12-24 11:00 PM\n"
+            + "Example 6: " + COMMAND_WORD + " next/14 time/6:00 PM-11:00 PM s/upcoming";
 
     public static final String MESSAGE_PERSON_NOT_FOUND = "No person found with phone number: %s";
     public static final String MESSAGE_NO_BOOKINGS = "No bookings found%s.";
     public static final String MESSAGE_SUCCESS = "Here are the bookings%s:";
 
-    private final Phone phoneNumber;
-    private final LocalDateTime bookingDate;
-    private final Status status;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("dd MMM yyyy h:mm a", Locale.ENGLISH);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a", Locale.ENGLISH);
+
+    private final BookingQuery query;
 
     /**
-     * Creates a Filter Command to list the bookings of specified {@code Person}
+     * Creates a Filter Command to list the bookings of specified {@code Person}, on the date of {@code bookingDate}
+     * and with {@code status}. Any of them may be null to not filter by it.
      */
     public FilterCommand(Phone phoneNumber, LocalDateTime bookingDate, Status status) {
-        this.phoneNumber = phoneNumber;
-        this.bookingDate = bookingDate;
-        this.status = status;
+        this(new BookingQuery(phoneNumber, bookingDate == null ? null : bookingDate.toLocalDate().atStartOfDay(),
+                bookingDate == null ? null : bookingDate.toLocalDate().plusDays(1).atStartOfDay(),
+                TimeWindow.ALL_DAY, status));
+    }
+
+    /**
+     * Creates a Filter Command to list the bookings that match {@code query}.
+     */
+    public FilterCommand(BookingQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         AddressBook addressBook = (AddressBook) model.getAddressBook();
+        Phone phoneNumber = query.getPhone();
+        if (phoneNumber != null && addressBook.getPersonByPhone(phoneNumber) == null) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, phoneNumber));
+        }
 
-        Predicate<Booking> predicate = booking -> true;
-        String filterDescription = "";
+        Set<Integer> matchingBookingIds = addressBook.findBookings(query).stream()
+                .map(Booking::getBookingId)
+                .collect(Collectors.toSet());
+        model.updateFilteredBookingList(booking -> matchingBookingIds.contains(booking.getBookingId()));
 
-        if (phoneNumber != null) {
-            // Find person by phone number
-            Person person = addressBook.getPersonByPhone(phoneNumber);
+        String filterDescription = describeFilter();
+        if (model.getFilteredBookingList().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_BOOKINGS, filterDescription));
+        } else {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, filterDescription));
+        }
+    }
 
-            if (person == null) {
-                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, phoneNumber));
+    private String describeFilter() {
+        Phone phoneNumber = query.getPhone();
+        LocalDateTime start = query.getStart();
+        LocalDateTime end = query.getEnd();
+        TimeWindow timeWindow = query.getTimeWindow();
+        Status status = query.getStatus();
+        StringBuilder description = new StringBuilder();
+        if (phoneNumber != null) {
+            description.append(" for phone number ").append(phoneNumber);
+        }
+        if (start != null && end != null && isWholeDay(start, end)) {
+            description.append(" on ").append(start.format(DATE_FORMATTER));
+        } else {
+            if (start != null) {
+                description.append(" from ").append(start.format(DATE_TIME_FORMATTER));
+            }
+            if (end != null) {
+                description.append(" before ").append(end.format(DATE_TIME_FORMATTER));
             }
-
-            predicate = predicate.and(booking -> person.getBookingIDs().contains(booking.getBookingId()));
-            filterDescription = " for phone number " + phoneNumber;
         }
+        if (!timeWindow.isAllDay()) {
+            description.append(" between ").append(timeWindow.getStart().format(TIME_FORMATTER))
+                    .append(" and ").append(timeWindow.getEnd().format(TIME_FORMATTER));
+        }
+        if (status != null) {
+            description.append(" with status ").append(status);
+        }
+        return description.toString();
+    }
 
-        if (bookingDate != null) {
-            // Compare only the date part (year, month, day) ignoring time
-            predicate = predicate.and(booking ->
-                    booking.getBookingDateTime().toLocalDate().equals(bookingDate.toLocalDate()));
+    private static boolean isWholeDay(LocalDateTime start, LocalDateTime end) {
+        return start.toLocalTime().equals(LocalTime.MIDNIGHT) && end.equals(start.plusDays(1));
+    }
 
-            String formattedDate = bookingDate.toLocalDate().format(
-                    DateTimeFormatter.ofPattern("dd MMM yyyy"));
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 
-            filterDescription = phoneNumber != null
-                    ? filterDescription + " on " + formattedDate
-                    : " on " + formattedDate;
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
 
-        if (status != null) {
-            predicate = predicate.and(booking -> booking.getStatus().equals(status));
-            filterDescription = filterDescription + " with status " + status;
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
         }
 
-        model.updateFilteredBookingList(predicate);
-
-        if (model.getFilteredBookingList().isEmpty()) {
-            return new CommandResult(String.format(MESSAGE_NO_BOOKINGS, filterDescription));
-        } else {
-            return new CommandResult(String.format(MESSAGE_SUCCESS, filterDescription));
-        }
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return query.equals(otherFilterCommand.query);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this
-                || (other instanceof FilterCommand
-                && Objects.equals(phoneNumber, ((FilterCommand) other).phoneNumber)
-                && Objects.equals(bookingDate, ((FilterCommand) other).bookingDate)
-                && Objects.equals(status, ((FilterCommand) other).status));
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
     }
 }
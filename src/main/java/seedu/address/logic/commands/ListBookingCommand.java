@@ -43,5 +43,10 @@ public class ListBookingCommand extends Command {
         }
 
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
 
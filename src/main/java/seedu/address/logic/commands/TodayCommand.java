@@ -3,14 +3,17 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
-import seedu.address.model.person.Person;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Phone;
 
 
 /**
@@ -39,49 +42,29 @@ public class TodayCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Predicate<Booking> bookingPredicate = booking -> true;
-        bookingPredicate = bookingPredicate.and(
-                booking -> booking.getBookingDateTime().toLocalDate().equals(dateOfInterest));
+        AddressBook addressBook = (AddressBook) model.getAddressBook();
 
-        model.updateFilteredBookingList(bookingPredicate);
+        // Look the day's bookings up in the date index instead of comparing dates per booking
+        List<Booking> bookingsOnDate = addressBook.getBookingsOn(dateOfInterest);
+        Set<Integer> bookingIdsOnDate = new HashSet<>(bookingsOnDate.size() * 2);
+        Set<Phone> phonesOnDate = new HashSet<>();
+        for (Booking booking : bookingsOnDate) {
+            bookingIdsOnDate.add(booking.getBookingId());
+            phonesOnDate.add(addressBook.getBookingPhone(booking.getBookingId()));
+        }
+        model.updateFilteredBookingList(booking -> bookingIdsOnDate.contains(booking.getBookingId()));
 
-        if (model.getFilteredBookingList().isEmpty()) {
+        if (bookingsOnDate.isEmpty()) {
             // do not touch persons list if there are no bookings
             return new CommandResult(MESSAGE_NO_BOOKING);
         }
 
-        ObservableList<Booking> filteredBookingList = model.getFilteredBookingList();
-        Predicate<Person> personPredicate = person -> true;
-        personPredicate = personPredicate.and(person -> {
-            for (Booking booking : filteredBookingList) {
-                if (booking.getBookingPerson().equals(person)) {
-                    return true;
-                }
-            }
-            return false;
-        });
-        model.updateFilteredPersonList(personPredicate);
-
-        // for each booking status upcoming completed cancelled, count the number of bookings
-        // put that in success message too
-        int upcomingCount = 0;
-        int completedCount = 0;
-        int cancelledCount = 0;
-        for (Booking booking : filteredBookingList) {
-            switch (booking.getStatus()) {
-            case UPCOMING:
-                upcomingCount++;
-                break;
-            case COMPLETED:
-                completedCount++;
-                break;
-            case CANCELLED:
-                cancelledCount++;
-                break;
-            default:
-                break;
-            }
-        }
+        model.updateFilteredPersonList(person -> phonesOnDate.contains(person.getPhone()));
+
+        // The number of bookings of each status comes from the status partitions of the booking list
+        int upcomingCount = addressBook.countBookingsOn(dateOfInterest, Status.UPCOMING);
+        int completedCount = addressBook.countBookingsOn(dateOfInterest, Status.COMPLETED);
+        int cancelledCount = addressBook.countBookingsOn(dateOfInterest, Status.CANCELLED);
 
         // "Upcoming: X, Completed: Y, Cancelled: Z"
         String outline = "Upcoming: %d, Completed: %d, Cancelled: %d";
@@ -90,6 +73,11 @@ public class TodayCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS + "\n" + message);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -17,4 +17,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_PAX = new Prefix("x/");
     public static final Prefix PREFIX_BOOKING_ID = new Prefix("b/");
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_NEXT = new Prefix("next/");
+    public static final Prefix PREFIX_TIME = new Prefix("time/");
 }
@@ -3,21 +3,44 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.booking.BookingQuery;
 import seedu.address.model.booking.Status;
+import seedu.address.model.booking.TimeWindow;
 import seedu.address.model.person.Phone;
 
 /**
  * Parses input arguments and creates a new {@code FilterCommand} object.
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String MESSAGE_CONFLICTING_DATES =
+            "Give the dates with only one of d/, from/ and to/, or next/.";
+    public static final String MESSAGE_EMPTY_RANGE = "The end of the date range must be after its start.";
+    // About 100 years; far larger numbers of days run past the last date a LocalDateTime can hold
+    public static final long MAX_DAYS = 36_500;
+    public static final String MESSAGE_INVALID_DAYS =
+            "Invalid number of days. It must be a whole number from 1 to " + MAX_DAYS + ".";
+    public static final String MESSAGE_INVALID_TIME_WINDOW =
+            "Invalid time window. Use START_TIME-END_TIME, e.g. 6:00 PM-11:00 PM.";
+
+    private static final Prefix[] PREFIXES = {
+        PREFIX_PHONE, PREFIX_DATE, PREFIX_FROM, PREFIX_TO, PREFIX_NEXT, PREFIX_TIME, PREFIX_STATUS
+    };
+
     /**
      * Parses the given {@code String} of arguments in the context of the {@code FilterCommand}
      * and returns a {@code FilterCommand} object for execution.
@@ -26,13 +49,14 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      */
     public FilterCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_DATE, PREFIX_STATUS);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
         Phone phoneNumber = null;
-        LocalDateTime bookingDate = null;
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        TimeWindow timeWindow = TimeWindow.ALL_DAY;
         Status status = null;
 
-        if (argMultimap.getValue(PREFIX_PHONE).isEmpty() && argMultimap.getValue(PREFIX_DATE).isEmpty()
-                && argMultimap.getValue(PREFIX_STATUS).isEmpty()) {
+        if (Stream.of(PREFIXES).allMatch(prefix -> argMultimap.getValue(prefix).isEmpty())) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
@@ -44,15 +68,47 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             }
         }
 
-        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+        boolean hasDate = argMultimap.getValue(PREFIX_DATE).isPresent();
+        boolean hasRange = argMultimap.getValue(PREFIX_FROM).isPresent() || argMultimap.getValue(PREFIX_TO).isPresent();
+        boolean hasNext = argMultimap.getValue(PREFIX_NEXT).isPresent();
+        if ((hasDate ? 1 : 0) + (hasRange ? 1 : 0) + (hasNext ? 1 : 0) > 1) {
+            throw new ParseException(MESSAGE_CONFLICTING_DATES);
+        }
+
+        if (hasDate) {
             try {
-                bookingDate = ParserUtil.parseDateOnly(argMultimap.getValue(PREFIX_DATE).get());
+                start = ParserUtil.parseDateOnly(argMultimap.getValue(PREFIX_DATE).get());
+                end = start.plusDays(1);
             } catch (IllegalValueException ive) {
                 throw new ParseException("Invalid date format.", ive);
             }
         }
 
-        System.out.println("STATUS VALUE: " + argMultimap.getValue(PREFIX_STATUS));
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            start = parseDateOrDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        }
+
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            String toValue = argMultimap.getValue(PREFIX_TO).get();
+            // The end is inclusive: a date covers the whole day, and a time covers its minute
+            end = isDateOnly(toValue)
+                    ? ParserUtil.parseDateOnly(toValue).plusDays(1)
+                    : parseDateOrDateTime(toValue).plusMinutes(1);
+        }
+
+        if (hasNext) {
+            start = LocalDate.now().atStartOfDay();
+            end = start.plusDays(parseDays(argMultimap.getValue(PREFIX_NEXT).get()));
+        }
+
+        if (start != null && end != null && !start.isBefore(end)) {
+            throw new ParseException(MESSAGE_EMPTY_RANGE);
+        }
+
+        if (argMultimap.getValue(PREFIX_TIME).isPresent()) {
+            timeWindow = parseTimeWindow(argMultimap.getValue(PREFIX_TIME).get());
+        }
+
         if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
             String statusStr = argMultimap.getValue(PREFIX_STATUS).get().toUpperCase();
             try {
@@ -62,6 +118,34 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             }
         }
 
-        return new FilterCommand(phoneNumber, bookingDate, status);
+        return new FilterCommand(new BookingQuery(phoneNumber, start, end, timeWindow, status));
+    }
+
+    private static boolean isDateOnly(String value) {
+        return !value.trim().contains(" ");
+    }
+
+    private static LocalDateTime parseDateOrDateTime(String value) throws ParseException {
+        return isDateOnly(value) ? ParserUtil.parseDateOnly(value.trim()) : ParserUtil.parseDateTime(value);
+    }
+
+    private static long parseDays(String value) throws ParseException {
+        try {
+            long days = Long.parseLong(value.trim());
+            if (days > 0 && days <= MAX_DAYS) {
+                return days;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like a number out of range
+        }
+        throw new ParseException(MESSAGE_INVALID_DAYS);
+    }
+
+    private static TimeWindow parseTimeWindow(String value) throws ParseException {
+        String[] times = value.split("-");
+        if (times.length != 2) {
+            throw new ParseException(MESSAGE_INVALID_TIME_WINDOW);
+        }
+        return new TimeWindow(ParserUtil.parseTime(times[0]), ParserUtil.parseTime(times[1]));
     }
 }
@@ -2,32 +2,82 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchQuery.Term;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String WILDCARD = "*";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Keywords are OR-ed together unless joined by {@code AND}, which binds more tightly than {@code OR}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            throw invalidFormat();
+        }
+
+        List<List<Term>> clauses = new ArrayList<>();
+        List<Term> clause = new ArrayList<>();
+        String pendingOperator = null;
+        for (String word : trimmedArgs.split("\\s+")) {
+            if (word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR)) {
+                if (clause.isEmpty() || pendingOperator != null) {
+                    throw invalidFormat();
+                }
+                pendingOperator = word;
+                continue;
+            }
+
+            if (!clause.isEmpty() && !OPERATOR_AND.equals(pendingOperator)) {
+                clauses.add(clause);
+                clause = new ArrayList<>();
+            }
+            clause.addAll(parseTerms(word));
+            pendingOperator = null;
+        }
+        if (pendingOperator != null) {
+            throw invalidFormat();
         }
+        clauses.add(clause);
+
+        return new FindCommand(new SearchQuery(clauses));
+    }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+    /**
+     * Splits {@code keyword} into the words it would be indexed under. All of them must match, and the last one
+     * only needs to start a word if {@code keyword} ends with {@code *}.
+     */
+    private static List<Term> parseTerms(String keyword) throws ParseException {
+        boolean isPrefix = keyword.endsWith(WILDCARD);
+        List<String> tokens = SearchIndex.tokenize(isPrefix ? keyword.substring(0, keyword.length() - 1) : keyword);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<Term> terms = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            terms.add(new Term(tokens.get(i), isPrefix && i == tokens.size() - 1));
+        }
+        return terms;
     }
 
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
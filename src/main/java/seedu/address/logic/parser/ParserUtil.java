@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -31,6 +32,9 @@ public class ParserUtil {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT, Locale.ENGLISH);
     private static final DateTimeFormatter DATE_ONLY_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+    // Example: 2:00 PM
+    private static final String TIME_FORMAT = "h:mm a";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_FORMAT, Locale.ENGLISH);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -178,6 +182,22 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String timeStr} into a {@code LocalTime}.
+     * Format expected: h:mm a (e.g., 6:30 PM)
+     */
+    public static LocalTime parseTime(String timeStr) throws ParseException {
+        requireNonNull(timeStr);
+        String trimmed = timeStr.trim();
+        try {
+            return LocalTime.parse(trimmed.toUpperCase(Locale.ENGLISH), TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Invalid time format: " + timeStr
+                    + "\n Please follow the format: " + TIME_FORMAT
+                    + "\n Example: 6:30 PM");
+        }
+    }
+
     /**
      * Parses a {@code String pax} into an {@code int}.
      *
@@ -2,17 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingIdSequencer;
+import seedu.address.model.booking.BookingQuery;
 import seedu.address.model.booking.Status;
+import seedu.address.model.booking.TimeWindow;
 import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
+import seedu.address.model.person.BookingIdSet;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Wraps all data at the address-book level
@@ -22,6 +33,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueBookingList bookings;
+    private final BookingIdSequencer bookingIdSequencer = new BookingIdSequencer();
+    private final PersonBookingIndex personBookingIndex = new PersonBookingIndex();
+    private final SearchIndex searchIndex = new SearchIndex();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -35,6 +49,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         bookings = new UniqueBookingList();
     }
 
+    private final BookingQueryPlanner bookingQueryPlanner = new BookingQueryPlanner(bookings, personBookingIndex);
+
     public AddressBook() {}
 
     /**
@@ -53,22 +69,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        searchIndex.clearPersons();
+        persons.forEach(searchIndex::addPerson);
     }
 
     /**
      * Replaces the contents of the booking list with {@code bookings}.
      * {@code bookings} map values are used; duplicates are not allowed.
+     * Booking IDs up to the largest in {@code bookings} are never handed out afterwards.
      */
     public void setBookings(List<Booking> bookings) {
-        // Convert the HashMap's values to a Collection and delegate to UniqueBookingList.
         this.bookings.setBookings(bookings);
-
-        // Reset booking ID counter to avoid conflicts
-        Booking maxIdBooking = bookings.stream()
-                .max((b1, b2) -> Integer.compare(b1.getBookingId(), b2.getBookingId()))
-                .orElse(null);
-        int maxId = maxIdBooking == null ? 0 : maxIdBooking.getBookingId();
-        Booking.setBookingIdCounter(maxId + 1); // Increment by 1 to avoid clash
+        personBookingIndex.clear();
+        searchIndex.clearBookings();
+        for (Booking booking : bookings) {
+            bookingIdSequencer.advancePast(booking.getBookingId());
+            linkBookingPerson(booking);
+            searchIndex.addBooking(booking);
+        }
     }
 
     /**
@@ -79,6 +97,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setPersons(newData.getPersonList());
         setBookings(newData.getBookingList());
+        setNextBookingId(newData.getNextBookingId());
     }
 
     //// person-level operations
@@ -88,14 +107,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-
-        for (Person p : persons) {
-            if (p.getPhone().equals(person.getPhone())) {
-                return true;
-            }
-        }
-
-        return false;
+        return persons.contains(person);
     }
 
     /**
@@ -104,34 +116,81 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        searchIndex.addPerson(p);
     }
 
     /**
-     * Replaces the given person {@code target} in the list with {@code editedPerson}.
+     * Replaces the given person {@code target} in the list with {@code editedPerson}, and links the bookings made by
+     * {@code target} to {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        // Nothing is changed unless the whole edit can be made
+        persons.checkCanSetPerson(target, editedPerson);
 
+        // Bookings are linked first, so that listeners of the person list see the edited person on them
+        personBookingIndex.relink(target.getPhone(), editedPerson.getPhone());
+        personBookingIndex.getBookingIds(editedPerson.getPhone())
+                .forEachId(bookingId -> bookings.getBooking(bookingId).setBookingPerson(editedPerson));
         persons.setPerson(target, editedPerson);
+        searchIndex.removePerson(target);
+        searchIndex.addPerson(editedPerson);
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} and the bookings made by {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
         persons.remove(key);
-        List<Integer> bookingsToRemove = new ArrayList<>(key.getBookingIDs());
-        for (int bookingID : bookingsToRemove) {
-            bookings.removeById(bookingID);
-        }
+        searchIndex.removePerson(key);
+        personBookingIndex.unlinkAll(key.getPhone()).forEachId(bookingId -> {
+            searchIndex.removeBooking(bookings.getBooking(bookingId));
+            bookings.removeById(bookingId);
+        });
     }
 
     //// booking-level operations
+
+    /**
+     * Returns a booking ID that no other booking in this address book has, or will be given.
+     * Safe to call from several threads at once.
+     */
+    public int nextBookingId() {
+        return bookingIdSequencer.allocate();
+    }
+
+    @Override
+    public int getNextBookingId() {
+        return bookingIdSequencer.getNextId();
+    }
+
+    /**
+     * Hands out booking IDs from {@code nextBookingId} onwards.
+     * {@code nextBookingId} must be greater than the ID of every booking in the address book.
+     */
+    public void setNextBookingId(int nextBookingId) {
+        bookingIdSequencer.reset(nextBookingId);
+    }
+
+    /**
+     * Adds a booking to the address book.
+     * The booking must not already exist in the address book.
+     */
     public void addBooking(Booking booking) {
         bookings.add(booking);
+        bookingIdSequencer.advancePast(booking.getBookingId());
+        linkBookingPerson(booking);
+        searchIndex.addBooking(booking);
+    }
+
+    private void linkBookingPerson(Booking booking) {
+        Person person = booking.getBookingPerson();
+        if (person != null) {
+            personBookingIndex.link(person.getPhone(), booking.getBookingId());
+        }
     }
 
     /**
@@ -142,6 +201,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeBooking(Booking booking) {
         bookings.remove(booking);
         int id = booking.getBookingId();
+        personBookingIndex.unlink(id);
+        searchIndex.removeBooking(booking);
         Person person = booking.getBookingPerson();
         if (person != null) {
             person.removeBookingID(id);
@@ -158,13 +219,92 @@ public class AddressBook implements ReadOnlyAddressBook {
         return bookings.getBooking(bookingID) != null;
     }
 
+    /**
+     * Updates the fields of the booking with the given booking ID.
+     *
+     * @param bookingID The booking ID of the booking to be updated.
+     * @param fieldsToEdit A map containing the fields to edit and their new values.
+     * @throws BookingNotFoundException if no booking with the given ID exists.
+     */
+    public void updateBookingFields(int bookingID, HashMap<String, Object> fieldsToEdit) {
+        Booking booking = bookings.getBooking(bookingID);
+        if (booking == null) {
+            throw new BookingNotFoundException();
+        }
+        searchIndex.removeBooking(booking);
+        bookings.updateFields(bookingID, fieldsToEdit);
+        searchIndex.addBooking(booking);
+    }
+
+    /**
+     * Returns all bookings on the given date, earliest first.
+     */
+    public List<Booking> getBookingsOn(LocalDate date) {
+        return bookings.getBookingsOn(date);
+    }
+
+    /**
+     * Returns the number of bookings on the given date with the given status.
+     */
+    public int countBookingsOn(LocalDate date, Status status) {
+        return bookings.countBookingsOn(date, status);
+    }
+
+    /**
+     * Returns all bookings with a booking date and time from {@code start} (inclusive) to {@code end} (exclusive),
+     * earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        return bookings.getBookingsBetween(start, end);
+    }
+
+    /**
+     * Returns the bookings that match {@code query}, in no particular order. The criteria most likely to narrow the
+     * bookings down are used to look them up, and the others are checked on each of those bookings only.
+     */
+    public List<Booking> findBookings(BookingQuery query) {
+        return bookingQueryPlanner.find(query);
+    }
+
+    /**
+     * Returns all bookings with a booking date and time from {@code start} (inclusive) to {@code end} (exclusive) and
+     * a time of day within {@code window}, earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window) {
+        return bookings.getBookingsBetween(start, end, window);
+    }
+
+    /**
+     * Returns all bookings with the given status, a booking date and time from {@code start} (inclusive) to
+     * {@code end} (exclusive) and a time of day within {@code window}, earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window, Status status) {
+        return bookings.getBookingsBetween(start, end, window, status);
+    }
+
+    /**
+     * Returns the number of covers of upcoming bookings with a booking date and time from {@code start} (inclusive)
+     * to {@code end} (exclusive), counted by 15-minute slot.
+     */
+    public long countUpcomingCoversBetween(LocalDateTime start, LocalDateTime end) {
+        return bookings.countUpcomingCoversBetween(start, end);
+    }
+
+    /**
+     * Returns the most seats taken by upcoming bookings at any time while a party arriving at {@code arrival} would be
+     * seated.
+     */
+    public long getPeakSeatsTakenDuring(LocalDateTime arrival) {
+        return bookings.getPeakSeatsTakenDuring(arrival);
+    }
+
     /***
      * Checks if the booking lists contains any cancelled or completed bookings.
      *
      * @return true if there are cancelled or upcoming bookings in the address book.
      */
     public boolean hasCancelledOrCompletedBookings() {
-        return !bookings.getCancelledOrCompletedBookings().isEmpty();
+        return bookings.hasBookings(Status.CANCELLED) || bookings.hasBookings(Status.COMPLETED);
     }
 
     /**
@@ -183,16 +323,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * and removes their booking IDs from the respective people.
      */
     public void clearBookings() {
-        List<Booking> bookingsToClear = new ArrayList<>(bookings.getCancelledOrCompletedBookings());
-        for (Booking booking : bookingsToClear) {
+        List<Booking> clearedBookings = bookings.clearBookings(Status.CANCELLED, Status.COMPLETED);
+        for (Booking booking : clearedBookings) {
             int id = booking.getBookingId();
+            personBookingIndex.unlink(id);
+            searchIndex.removeBooking(booking);
             Person person = booking.getBookingPerson();
             if (person != null) {
                 person.removeBookingID(id);
             }
-
         }
-        bookings.clearBookings(bookingsToClear);
     }
 
 
@@ -203,10 +343,47 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return The person with the given phone number, or null if no such person exists.
      */
     public Person getPersonByPhone(Phone phoneNumber) {
-        return this.getPersonList().stream()
-                .filter(p -> p.getPhone().equals(phoneNumber))
-                .findFirst()
-                .orElse(null);
+        return persons.getPersonByPhone(phoneNumber);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose phone numbers start with {@code prefix}, in order of phone number.
+     */
+    public List<Person> getPersonsWithPhonePrefix(String prefix, int limit) {
+        return persons.getPersonsWithPhonePrefix(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose names start with {@code prefix}, ignoring case, in order of name.
+     */
+    public List<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+        return persons.getPersonsWithNamePrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the bookings made by the person with the given phone number, in order of booking ID.
+     */
+    public List<Booking> getBookingsOf(Phone phoneNumber) {
+        BookingIdSet bookingIds = personBookingIndex.getBookingIds(phoneNumber);
+        List<Booking> personBookings = new ArrayList<>(bookingIds.size());
+        bookingIds.forEachId(bookingId -> personBookings.add(bookings.getBooking(bookingId)));
+        return personBookings;
+    }
+
+    /**
+     * Returns the phone numbers of the persons who match {@code query}, through their own details or the remarks of
+     * their bookings.
+     */
+    public Set<Phone> search(SearchQuery query) {
+        return searchIndex.search(query, personBookingIndex::getPhone, personBookingIndex::getBookingIds);
+    }
+
+    /**
+     * Returns the phone number of the person who made the booking with the given booking ID, or null if there is no
+     * such booking.
+     */
+    public Phone getBookingPhone(int bookingID) {
+        return personBookingIndex.getPhone(bookingID);
     }
 
     //// util methods
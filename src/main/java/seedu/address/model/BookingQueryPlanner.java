@@ -0,0 +1,186 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingQuery;
+import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.person.Phone;
+
+/**
+ * Chooses how to find the bookings that match a {@code BookingQuery}, and finds them.
+ *
+ * Each access path yields candidate bookings that already meet some of the criteria; the other criteria are then
+ * checked on each candidate only. The planner estimates how many candidates each path would yield and takes the
+ * smallest, so a query for one person never scans the date index, and a query for one evening never walks through
+ * every booking a regular has made. Estimates stop counting once they pass the best so far, so planning never costs
+ * more than the chosen path. Each plan is logged, {@code EXPLAIN}-style, with the number of bookings it found.
+ */
+class BookingQueryPlanner {
+
+    /**
+     * A way of finding the candidate bookings for a query.
+     */
+    enum AccessPath {
+        PERSON_BOOKINGS("bookings of the person"),
+        STATUS_PARTITION_SCAN("date range scan of the status partition"),
+        DATE_INDEX_SCAN("date range scan of all bookings");
+
+        private final String description;
+
+        AccessPath(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BookingQueryPlanner.class);
+
+    private final UniqueBookingList bookings;
+    private final PersonBookingIndex personBookingIndex;
+
+    BookingQueryPlanner(UniqueBookingList bookings, PersonBookingIndex personBookingIndex) {
+        this.bookings = bookings;
+        this.personBookingIndex = personBookingIndex;
+    }
+
+    /**
+     * Returns the cheapest plan for {@code query}.
+     */
+    Plan plan(BookingQuery query) {
+        requireNonNull(query);
+        AccessPath scanPath = query.getStatus() == null ? AccessPath.DATE_INDEX_SCAN : AccessPath.STATUS_PARTITION_SCAN;
+        if (query.getPhone() == null) {
+            // The only way in, so there is nothing to gain from estimating its size
+            return new Plan(query, scanPath, Plan.UNKNOWN, List.of());
+        }
+
+        int personCandidates = personBookingIndex.getBookingIds(query.getPhone()).size();
+        int scanCandidates = countScanCandidates(query, personCandidates);
+        if (scanCandidates < personCandidates) {
+            return new Plan(query, scanPath, scanCandidates,
+                    List.of(Plan.describe(AccessPath.PERSON_BOOKINGS, personCandidates, false)));
+        }
+        // Counting stopped once the scan was known to yield more
+        boolean isCountCut = scanCandidates > personCandidates;
+        return new Plan(query, AccessPath.PERSON_BOOKINGS, personCandidates,
+                List.of(Plan.describe(scanPath, isCountCut ? personCandidates : scanCandidates, isCountCut)));
+    }
+
+    private int countScanCandidates(BookingQuery query, int limit) {
+        if (query.getStatus() == null) {
+            return bookings.countBookingsBetween(query.getRangeStart(), query.getRangeEnd(), query.getTimeWindow(),
+                    limit);
+        }
+        return bookings.countBookingsBetween(query.getRangeStart(), query.getRangeEnd(), query.getTimeWindow(),
+                query.getStatus(), limit);
+    }
+
+    /**
+     * Returns the bookings that match {@code query}, found with the cheapest plan.
+     */
+    List<Booking> find(BookingQuery query) {
+        Plan plan = plan(query);
+        List<Booking> result = execute(plan);
+        logger.fine(plan + " found " + result.size() + " bookings");
+        return result;
+    }
+
+    /**
+     * Returns the bookings that match the query of {@code plan}, found the way {@code plan} says.
+     */
+    List<Booking> execute(Plan plan) {
+        BookingQuery query = plan.query;
+        List<Booking> candidates;
+        Predicate<Booking> remainingCriteria;
+        switch (plan.accessPath) {
+        case PERSON_BOOKINGS:
+            candidates = new ArrayList<>();
+            personBookingIndex.getBookingIds(query.getPhone())
+                    .forEachId(bookingId -> candidates.add(bookings.getBooking(bookingId)));
+            remainingCriteria = booking -> query.matchesDateTime(booking) && query.matchesStatus(booking);
+            break;
+        case STATUS_PARTITION_SCAN:
+            candidates = bookings.getBookingsBetween(query.getRangeStart(), query.getRangeEnd(),
+                    query.getTimeWindow(), query.getStatus());
+            remainingCriteria = booking -> isMadeBy(booking, query.getPhone());
+            break;
+        case DATE_INDEX_SCAN:
+            candidates = bookings.getBookingsBetween(query.getRangeStart(), query.getRangeEnd(),
+                    query.getTimeWindow());
+            remainingCriteria = booking -> isMadeBy(booking, query.getPhone());
+            break;
+        default:
+            throw new AssertionError("Unknown access path " + plan.accessPath);
+        }
+
+        candidates.removeIf(remainingCriteria.negate());
+        return candidates;
+    }
+
+    private boolean isMadeBy(Booking booking, Phone phone) {
+        return phone == null || phone.equals(personBookingIndex.getPhone(booking.getBookingId()));
+    }
+
+    /**
+     * How the bookings for a query will be found.
+     */
+    static class Plan {
+        static final int UNKNOWN = -1;
+
+        private final BookingQuery query;
+        private final AccessPath accessPath;
+        private final int estimatedCandidates;
+        private final List<String> rejectedPaths;
+
+        private Plan(BookingQuery query, AccessPath accessPath, int estimatedCandidates, List<String> rejectedPaths) {
+            this.query = query;
+            this.accessPath = accessPath;
+            this.estimatedCandidates = estimatedCandidates;
+            this.rejectedPaths = rejectedPaths;
+        }
+
+        AccessPath getAccessPath() {
+            return accessPath;
+        }
+
+        /**
+         * Returns the criteria that the access path does not already meet, which are checked on each candidate.
+         */
+        List<String> getRemainingCriteria() {
+            List<String> criteria = new ArrayList<>();
+            if (accessPath == AccessPath.PERSON_BOOKINGS) {
+                if (query.hasDateRange()) {
+                    criteria.add("date range");
+                }
+                if (!query.getTimeWindow().isAllDay()) {
+                    criteria.add("time window");
+                }
+                if (query.getStatus() != null) {
+                    criteria.add("status");
+                }
+            } else if (query.getPhone() != null) {
+                criteria.add("phone");
+            }
+            return criteria;
+        }
+
+        private static String describe(AccessPath accessPath, int candidates, boolean isLowerBound) {
+            String count = candidates == UNKNOWN ? "?" : (isLowerBound ? ">" : "") + candidates;
+            return accessPath.description + " (" + count + " candidates)";
+        }
+
+        @Override
+        public String toString() {
+            return "Plan: " + describe(accessPath, estimatedCandidates, false)
+                    + ", then check " + getRemainingCriteria()
+                    + (rejectedPaths.isEmpty() ? "" : "; rejected " + rejectedPaths)
+                    + " for " + query;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.booking.Booking;
@@ -20,6 +23,13 @@ public interface Model {
     Predicate<Booking> PREDICATE_SHOW_ALL_BOOKINGS = unused -> true;
     Predicate<Booking> PREDICATE_SHOW_UPCOMING_BOOKINGS = booking -> booking.getStatus().equals(Status.UPCOMING);
 
+    /**
+     * {@code Comparator}s that the filtered booking list can be sorted by
+     */
+    Comparator<Booking> COMPARATOR_BOOKING_DATE = Comparator.comparing(Booking::getBookingDateTime);
+    Comparator<Booking> COMPARATOR_BOOKING_PAX = Comparator.comparingInt(Booking::getPax);
+    Comparator<Booking> COMPARATOR_BOOKING_ID = Comparator.comparingInt(Booking::getBookingId);
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -60,6 +70,18 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the persons or bookings in the address book change.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the lock that guards the address book, including the persons and bookings in it.
+     * Code that changes the address book holds the write lock. Code that reads it on another thread, such as the UI
+     * or a query, holds the read lock, so that it sees the address book as it was between two commands.
+     */
+    ReadWriteLock getAddressBookLock();
+
 
     /**
      * Returns true if a person with the same phone number as {@code phone} exists in the address book.
@@ -119,6 +141,14 @@ public interface Model {
      */
     void updateFilteredBookingList(Predicate<Booking> predicate);
 
+    /**
+     * Changes the sort order of the filtered booking list to {@code comparator}.
+     * The list returned by {@link #getFilteredBookingList()} is re-sorted in place.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateBookingSortOrder(Comparator<Booking> comparator);
+
     /**
      * Returns the current booking predicate.
      */
@@ -128,4 +158,9 @@ public interface Model {
      * Returns the filtered status of booking list.
      */
     boolean isBookingListFiltered();
+
+    /**
+     * Returns a property that holds the filtered status of the booking list, for views to observe.
+     */
+    ReadOnlyBooleanProperty bookingListFilteredProperty();
 }
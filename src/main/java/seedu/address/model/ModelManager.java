@@ -5,11 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.booking.Booking;
@@ -25,8 +31,14 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Booking> filteredBookings;
+    private final SortedList<Booking> sortedBookings;
     private Predicate<Person> currentPersonPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private Predicate<Booking> currentBookingPredicate = PREDICATE_SHOW_ALL_BOOKINGS;
+    private final ReadOnlyBooleanWrapper bookingListFiltered = new ReadOnlyBooleanWrapper(false);
+    private long addressBookVersion = 0;
+
+    // Fair, so that a steady stream of readers cannot hold back the command thread
+    private final ReadWriteLock addressBookLock = new ReentrantReadWriteLock(true);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +52,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredBookings = new FilteredList<>(this.addressBook.getBookingList());
+        sortedBookings = new SortedList<>(filteredBookings, COMPARATOR_BOOKING_DATE);
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> addressBookVersion++);
+        this.addressBook.getBookingList().addListener((ListChangeListener<Booking>) change -> addressBookVersion++);
     }
 
     public ModelManager() {
@@ -93,6 +108,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public ReadWriteLock getAddressBookLock() {
+        return addressBookLock;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -159,11 +184,19 @@ public class ModelManager implements Model {
     }
 
 
+    /**
+     * Returns a sorted, unmodifiable view of the filtered list of {@code Booking}. The same view is returned on every
+     * call; changing the filter or the sort order updates it in place.
+     */
     @Override
     public ObservableList<Booking> getFilteredBookingList() {
-        Comparator<Booking> earliestFirst = (b1, b2) -> b1.getBookingDateTime().compareTo(b2.getBookingDateTime());
-        ObservableList<Booking> result = filteredBookings.sorted(earliestFirst);
-        return result;
+        return sortedBookings;
+    }
+
+    @Override
+    public void updateBookingSortOrder(Comparator<Booking> comparator) {
+        requireNonNull(comparator);
+        sortedBookings.setComparator(comparator);
     }
 
     @Override
@@ -171,6 +204,7 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
         filteredBookings.setPredicate(predicate);
         currentBookingPredicate = predicate;
+        bookingListFiltered.set(isBookingListFiltered());
 
         logger.info("Booking list filtered: " + isBookingListFiltered());
     }
@@ -180,6 +214,11 @@ public class ModelManager implements Model {
         return currentBookingPredicate != Model.PREDICATE_SHOW_ALL_BOOKINGS;
     }
 
+    @Override
+    public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+        return bookingListFiltered.getReadOnlyProperty();
+    }
+
     @Override
     public Predicate<Booking> getCurrentBookingPredicate() {
         return currentBookingPredicate;
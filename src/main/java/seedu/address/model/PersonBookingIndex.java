@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.BookingIdSet;
+import seedu.address.model.person.Phone;
+
+/**
+ * Links persons to the bookings they made, in both directions.
+ *
+ * Persons are identified by phone number rather than by {@code Person} object, so that the links stay valid when a
+ * person is replaced by an edited copy. Every lookup and change costs O(1), or O(bookings of that person).
+ */
+class PersonBookingIndex {
+
+    private static final BookingIdSet NO_BOOKINGS = new BookingIdSet();
+
+    private final Map<Phone, BookingIdSet> bookingIdsByPhone = new HashMap<>();
+    private final Map<Integer, Phone> phoneByBookingId = new HashMap<>();
+
+    /**
+     * Records that the person with {@code phone} made the booking with {@code bookingId}.
+     * Any earlier link of that booking is replaced.
+     */
+    void link(Phone phone, int bookingId) {
+        requireNonNull(phone);
+        unlink(bookingId);
+        phoneByBookingId.put(bookingId, phone);
+        bookingIdsByPhone.computeIfAbsent(phone, unused -> new BookingIdSet()).add(bookingId);
+    }
+
+    /**
+     * Removes the link of the booking with {@code bookingId}, if any.
+     */
+    void unlink(int bookingId) {
+        Phone phone = phoneByBookingId.remove(bookingId);
+        if (phone == null) {
+            return;
+        }
+        BookingIdSet bookingIds = bookingIdsByPhone.get(phone);
+        bookingIds.remove(bookingId);
+        if (bookingIds.isEmpty()) {
+            bookingIdsByPhone.remove(phone);
+        }
+    }
+
+    /**
+     * Removes the links of all bookings made by the person with {@code phone}.
+     *
+     * @return the IDs of those bookings.
+     */
+    BookingIdSet unlinkAll(Phone phone) {
+        BookingIdSet bookingIds = bookingIdsByPhone.remove(phone);
+        if (bookingIds == null) {
+            return NO_BOOKINGS;
+        }
+        bookingIds.forEachId(phoneByBookingId::remove);
+        return bookingIds;
+    }
+
+    /**
+     * Moves the bookings made by the person with {@code oldPhone} to the person with {@code newPhone}.
+     */
+    void relink(Phone oldPhone, Phone newPhone) {
+        requireNonNull(newPhone);
+        if (oldPhone.equals(newPhone)) {
+            return;
+        }
+        unlinkAll(oldPhone).forEachId(bookingId -> link(newPhone, bookingId));
+    }
+
+    /**
+     * Returns the IDs of the bookings made by the person with {@code phone}. The returned set must not be modified.
+     */
+    BookingIdSet getBookingIds(Phone phone) {
+        return bookingIdsByPhone.getOrDefault(phone, NO_BOOKINGS);
+    }
+
+    /**
+     * Returns the phone number of the person who made the booking with {@code bookingId}, or null if there is no
+     * such booking.
+     */
+    Phone getPhone(int bookingId) {
+        return phoneByBookingId.get(bookingId);
+    }
+
+    void clear() {
+        bookingIdsByPhone.clear();
+        phoneByBookingId.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Model} for running read-only commands against an address book that is shared with other threads.
+ *
+ * Unlike {@link ModelManager}, the filtered lists are not live views of the address book. They are computed when
+ * the filter or sort order changes, so that a query never registers listeners on the shared address book and each
+ * query sees only its own filters. The user prefs are a snapshot taken when the query starts. Any attempt to change
+ * the address book or the user prefs fails.
+ */
+public class QueryModel implements Model {
+
+    private static final String MESSAGE_READ_ONLY = "A query cannot change the address book.";
+    private static final String MESSAGE_READ_ONLY_PREFS = "A query cannot change the user prefs.";
+
+    private final ReadOnlyAddressBook addressBook;
+    private final UserPrefs userPrefs;
+    private final ReadWriteLock addressBookLock;
+    private final ReadOnlyBooleanWrapper bookingListFiltered = new ReadOnlyBooleanWrapper(false);
+
+    private Predicate<Person> currentPersonPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Booking> currentBookingPredicate = PREDICATE_SHOW_ALL_BOOKINGS;
+    private Comparator<Booking> bookingComparator = COMPARATOR_BOOKING_DATE;
+    private ObservableList<Person> filteredPersons;
+    private ObservableList<Booking> filteredBookings;
+
+    /**
+     * Creates a {@code QueryModel} over {@code addressBook}, showing all persons and bookings.
+     * The address book is not copied, so the read lock of {@code addressBookLock} must be held while the query runs.
+     * {@code userPrefs} is copied.
+     */
+    public QueryModel(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, ReadWriteLock addressBookLock) {
+        requireAllNonNull(addressBook, userPrefs, addressBookLock);
+        this.addressBook = addressBook;
+        this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBookLock = addressBookLock;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY_PREFS);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY_PREFS);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY_PREFS);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return 0;
+    }
+
+    @Override
+    public ReadWriteLock getAddressBookLock() {
+        return addressBookLock;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return ((AddressBook) addressBook).hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addBooking(Booking booking) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    //=========== Filtered Lists =============================================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        currentPersonPredicate = predicate;
+        filteredPersons = FXCollections.unmodifiableObservableList(FXCollections.observableList(
+                addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList())));
+    }
+
+    @Override
+    public Predicate<Person> getCurrentPersonPredicate() {
+        return currentPersonPredicate;
+    }
+
+    @Override
+    public ObservableList<Booking> getFilteredBookingList() {
+        return filteredBookings;
+    }
+
+    @Override
+    public void updateFilteredBookingList(Predicate<Booking> predicate) {
+        requireNonNull(predicate);
+        currentBookingPredicate = predicate;
+        bookingListFiltered.set(isBookingListFiltered());
+        refreshFilteredBookings();
+    }
+
+    @Override
+    public void updateBookingSortOrder(Comparator<Booking> comparator) {
+        requireNonNull(comparator);
+        bookingComparator = comparator;
+        refreshFilteredBookings();
+    }
+
+    private void refreshFilteredBookings() {
+        filteredBookings = FXCollections.unmodifiableObservableList(FXCollections.observableList(
+                addressBook.getBookingList().stream()
+                        .filter(currentBookingPredicate)
+                        .sorted(bookingComparator)
+                        .collect(Collectors.toList())));
+    }
+
+    @Override
+    public Predicate<Booking> getCurrentBookingPredicate() {
+        return currentBookingPredicate;
+    }
+
+    @Override
+    public boolean isBookingListFiltered() {
+        return currentBookingPredicate != PREDICATE_SHOW_ALL_BOOKINGS;
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+        return bookingListFiltered.getReadOnlyProperty();
+    }
+}
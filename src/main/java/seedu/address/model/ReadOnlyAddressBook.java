@@ -16,4 +16,10 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
 
     ObservableList<Booking> getBookingList();
+
+    /**
+     * Returns the ID that the next new booking will be given.
+     * It is greater than the ID of every booking that has been added so far.
+     */
+    int getNextBookingId();
 }
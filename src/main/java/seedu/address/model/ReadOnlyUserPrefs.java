@@ -13,4 +13,15 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of seats in the restaurant, or 0 if bookings are not limited by seats.
+     */
+    int getSeatingCapacity();
+
+    /**
+     * Returns true if a booking that would take more seats than {@link #getSeatingCapacity()} is added with a warning
+     * rather than rejected.
+     */
+    boolean isOverbookingAllowed();
+
 }
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int seatingCapacity = 0;
+    private boolean overbookingAllowed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSeatingCapacity(newUserPrefs.getSeatingCapacity());
+        setOverbookingAllowed(newUserPrefs.isOverbookingAllowed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getSeatingCapacity() {
+        return seatingCapacity;
+    }
+
+    /**
+     * Sets the number of seats in the restaurant, or 0 to not limit bookings by seats.
+     */
+    public void setSeatingCapacity(int seatingCapacity) {
+        if (seatingCapacity < 0) {
+            throw new IllegalArgumentException("Seating capacity cannot be negative");
+        }
+        this.seatingCapacity = seatingCapacity;
+    }
+
+    public boolean isOverbookingAllowed() {
+        return overbookingAllowed;
+    }
+
+    public void setOverbookingAllowed(boolean overbookingAllowed) {
+        this.overbookingAllowed = overbookingAllowed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && seatingCapacity == otherUserPrefs.seatingCapacity
+                && overbookingAllowed == otherUserPrefs.overbookingAllowed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, seatingCapacity, overbookingAllowed);
     }
 
     @Override
@@ -82,6 +110,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSeating capacity : " + seatingCapacity);
+        sb.append("\nOverbooking allowed : " + overbookingAllowed);
         return sb.toString();
     }
 
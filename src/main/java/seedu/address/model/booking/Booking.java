@@ -20,9 +20,6 @@ public class Booking {
      * Represents the status of the booking.
      */
 
-
-    private static int bookingIdCounter = 0;
-
     // Property field for JavaFX binding
     private final StringProperty statusProperty;
 
@@ -34,22 +31,6 @@ public class Booking {
     private String remarks;
     private int pax;
 
-    /**
-     * Default Booking constructor
-     */
-    public Booking(Person bookingPerson, LocalDateTime bookingDateTime, LocalDateTime bookingMadeDateTime,
-                   String remarks, int pax) {
-        requireAllNonNull(bookingPerson, bookingDateTime, bookingMadeDateTime);
-        this.bookingId = bookingIdCounter;
-        this.bookingPerson = bookingPerson;
-        this.bookingDateTime = bookingDateTime;
-        this.bookingMadeDateTime = bookingMadeDateTime;
-        this.status = Status.UPCOMING;
-        this.remarks = remarks;
-        this.pax = pax;
-        this.statusProperty = new SimpleStringProperty(this.status.toString());
-    }
-
     /**
      * Booking constructor for all fields
      */
@@ -68,11 +49,10 @@ public class Booking {
 
 
     /**
-     * Creates a Booking object with time created now.
+     * Creates an upcoming Booking object with time created now.
      */
-    public Booking(Person bookingPerson, LocalDateTime bookingDate, String remarks, int pax) {
-        this(bookingPerson, bookingDate, LocalDateTime.now(), remarks, pax);
-        bookingIdCounter++;
+    public Booking(int bookingId, Person bookingPerson, LocalDateTime bookingDate, String remarks, int pax) {
+        this(bookingId, bookingPerson, bookingDate, LocalDateTime.now(), Status.UPCOMING, remarks, pax);
     }
 
     /**
@@ -132,11 +112,6 @@ public class Booking {
         return bookingId;
     }
 
-    // for when we read from storage
-    public static void setBookingIdCounter(int bookingIdCounter) {
-        Booking.bookingIdCounter = bookingIdCounter;
-    }
-
     /**
      * Updates the fields of this booking based on the provided map.
      * The keys in the map should be "bookingDateTime", "pax", "remarks", and "tags".
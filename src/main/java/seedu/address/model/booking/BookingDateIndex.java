@@ -0,0 +1,188 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of bookings ordered by booking date and time. Bookings at the same date and time are ordered by booking ID.
+ *
+ * Bookings are filed under the date and time they had when they were added, so a booking must be removed before its
+ * date and time is changed and added back afterwards.
+ */
+class BookingDateIndex {
+
+    private final NavigableMap<LocalDateTime, NavigableMap<Integer, Booking>> index = new TreeMap<>();
+    private int size = 0;
+
+    /**
+     * Adds {@code booking} to the index.
+     */
+    void add(Booking booking) {
+        requireNonNull(booking);
+        Booking previous = index.computeIfAbsent(booking.getBookingDateTime(), unused -> new TreeMap<>())
+                .put(booking.getBookingId(), booking);
+        if (previous == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code booking} from the index, if present.
+     */
+    void remove(Booking booking) {
+        requireNonNull(booking);
+        LocalDateTime dateTime = booking.getBookingDateTime();
+        NavigableMap<Integer, Booking> bookingsAtTime = index.get(dateTime);
+        if (bookingsAtTime == null || bookingsAtTime.remove(booking.getBookingId()) == null) {
+            return;
+        }
+        size--;
+        if (bookingsAtTime.isEmpty()) {
+            index.remove(dateTime);
+        }
+    }
+
+    /**
+     * Returns the bookings within {@code [start, end)}, earliest first.
+     */
+    List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Booking> result = new ArrayList<>();
+        addBookingsBetween(start, end, result);
+        return result;
+    }
+
+    /**
+     * Returns the bookings within {@code [start, end)} whose time of day falls within {@code window}, earliest first.
+     * Each day of the range costs one sub-range scan of the index, and only days from the earliest to the latest
+     * booking are visited, so {@code start} and {@code end} may be as far apart as {@code LocalDateTime.MIN} and
+     * {@code LocalDateTime.MAX}.
+     */
+    List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window) {
+        requireAllNonNull(start, end, window);
+        List<Booking> result = new ArrayList<>();
+        if (index.isEmpty()) {
+            return result;
+        }
+        LocalDateTime from = later(start, index.firstKey());
+        LocalDateTime to = earlier(end, index.lastKey().plusNanos(1));
+        window.forEachInterval(from, to, (intervalStart, intervalEnd) -> {
+            addBookingsBetween(intervalStart, intervalEnd, result);
+            return true;
+        });
+        return result;
+    }
+
+    private void addBookingsBetween(LocalDateTime start, LocalDateTime end, List<Booking> result) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        for (NavigableMap<Integer, Booking> bookingsAtTime : index.subMap(start, true, end, false).values()) {
+            result.addAll(bookingsAtTime.values());
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * Returns the number of bookings within {@code [start, end)}, without listing them.
+     */
+    int countBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (!start.isBefore(end)) {
+            return 0;
+        }
+        int count = 0;
+        for (NavigableMap<Integer, Booking> bookingsAtTime : index.subMap(start, true, end, false).values()) {
+            count += bookingsAtTime.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of bookings within {@code [start, end)} whose time of day falls within {@code window}, or
+     * any number greater than {@code limit} if there are more than {@code limit} of them. Counting, and the walk over
+     * the days of the range, stops once {@code limit} is passed, so this costs no more than listing {@code limit}
+     * bookings.
+     */
+    int countBetween(LocalDateTime start, LocalDateTime end, TimeWindow window, int limit) {
+        requireAllNonNull(start, end, window);
+        if (index.isEmpty()) {
+            return 0;
+        }
+        int[] count = {0};
+        LocalDateTime from = later(start, index.firstKey());
+        LocalDateTime to = earlier(end, index.lastKey().plusNanos(1));
+        window.forEachInterval(from, to, (intervalStart, intervalEnd) -> {
+            for (NavigableMap<Integer, Booking> bookingsAtTime
+                    : index.subMap(intervalStart, true, intervalEnd, false).values()) {
+                count[0] += bookingsAtTime.size();
+                if (count[0] > limit) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Returns all bookings in the index, earliest first.
+     */
+    List<Booking> toList() {
+        List<Booking> result = new ArrayList<>(size);
+        for (NavigableMap<Integer, Booking> bookingsAtTime : index.values()) {
+            result.addAll(bookingsAtTime.values());
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        index.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the bookings in {@code first} and {@code second}, each already earliest first, merged in date order.
+     */
+    static List<Booking> merge(List<Booking> first, List<Booking> second) {
+        List<Booking> result = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (compare(first.get(i), second.get(j)) <= 0) {
+                result.add(first.get(i++));
+            } else {
+                result.add(second.get(j++));
+            }
+        }
+        result.addAll(first.subList(i, first.size()));
+        result.addAll(second.subList(j, second.size()));
+        return result;
+    }
+
+    private static int compare(Booking first, Booking second) {
+        int byDate = first.getBookingDateTime().compareTo(second.getBookingDateTime());
+        return byDate != 0 ? byDate : Integer.compare(first.getBookingId(), second.getBookingId());
+    }
+}
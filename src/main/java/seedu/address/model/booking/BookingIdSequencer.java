@@ -0,0 +1,43 @@
+package seedu.address.model.booking;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out booking IDs for one address book.
+ * IDs are never handed out twice, even when several threads ask for one at the same time.
+ */
+public class BookingIdSequencer {
+
+    /** Commands refer to bookings by positive IDs, so none are handed out below this. */
+    public static final int FIRST_BOOKING_ID = 1;
+
+    private final AtomicInteger nextId = new AtomicInteger(FIRST_BOOKING_ID);
+
+    /**
+     * Returns a new booking ID, and moves past it.
+     */
+    public int allocate() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Makes sure that {@code bookingId} is never handed out, e.g. because a booking with that ID already exists.
+     */
+    public void advancePast(int bookingId) {
+        nextId.accumulateAndGet(bookingId + 1, Math::max);
+    }
+
+    /**
+     * Returns the ID that {@link #allocate()} will hand out next.
+     */
+    public int getNextId() {
+        return nextId.get();
+    }
+
+    /**
+     * Hands out IDs from {@code nextId} onwards.
+     */
+    public void reset(int nextId) {
+        this.nextId.set(nextId);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Phone;
+
+/**
+ * The criteria that bookings must meet to be listed: made by the person with a phone number, at a date and time from
+ * {@code start} (inclusive) to {@code end} (exclusive), at a time of day within a {@code TimeWindow}, and with a
+ * status. Any criterion except the time window may be null to not filter by it.
+ */
+public class BookingQuery {
+
+    private final Phone phone;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final TimeWindow timeWindow;
+    private final Status status;
+
+    /**
+     * Creates a {@code BookingQuery} with the given criteria. Every criterion except {@code timeWindow} may be null.
+     */
+    public BookingQuery(Phone phone, LocalDateTime start, LocalDateTime end, TimeWindow timeWindow, Status status) {
+        requireNonNull(timeWindow);
+        this.phone = phone;
+        this.start = start;
+        this.end = end;
+        this.timeWindow = timeWindow;
+        this.status = status;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public TimeWindow getTimeWindow() {
+        return timeWindow;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the start of the date range, or {@code LocalDateTime.MIN} if it is open.
+     */
+    public LocalDateTime getRangeStart() {
+        return start == null ? LocalDateTime.MIN : start;
+    }
+
+    /**
+     * Returns the end of the date range, or {@code LocalDateTime.MAX} if it is open.
+     */
+    public LocalDateTime getRangeEnd() {
+        return end == null ? LocalDateTime.MAX : end;
+    }
+
+    public boolean hasDateRange() {
+        return start != null || end != null;
+    }
+
+    /**
+     * Returns true if {@code booking} is at a date, time and time of day that this query asks for.
+     */
+    public boolean matchesDateTime(Booking booking) {
+        LocalDateTime dateTime = booking.getBookingDateTime();
+        return !dateTime.isBefore(getRangeStart()) && dateTime.isBefore(getRangeEnd())
+                && timeWindow.contains(dateTime.toLocalTime());
+    }
+
+    /**
+     * Returns true if {@code booking} has the status that this query asks for.
+     */
+    public boolean matchesStatus(Booking booking) {
+        return status == null || booking.getStatus().equals(status);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookingQuery)) {
+            return false;
+        }
+
+        BookingQuery otherQuery = (BookingQuery) other;
+        return Objects.equals(phone, otherQuery.phone)
+                && Objects.equals(start, otherQuery.start)
+                && Objects.equals(end, otherQuery.end)
+                && timeWindow.equals(otherQuery.timeWindow)
+                && Objects.equals(status, otherQuery.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phone, start, end, timeWindow, status);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("start", start)
+                .add("end", end)
+                .add("timeWindow", timeWindow)
+                .add("status", status)
+                .toString();
+    }
+}
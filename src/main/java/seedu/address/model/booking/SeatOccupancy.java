@@ -0,0 +1,163 @@
+package seedu.address.model.booking;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * The number of covers (diners) that arrive in each 15-minute slot, and from that the number of seats taken at any
+ * time, given that every party stays for {@link #DINING_DURATION}.
+ *
+ * Covers are kept in a sparse segment tree over every slot from the year 0 to past the year 9999. Only the paths to
+ * slots that have had bookings are stored, so the tree stays small however far apart the bookings are, and adding
+ * covers or summing them over any range of time costs O(log n) in the number of slots.
+ */
+class SeatOccupancy {
+
+    static final Duration SLOT_LENGTH = Duration.ofMinutes(15);
+    static final Duration DINING_DURATION = Duration.ofHours(2);
+
+    private static final LocalDateTime FIRST_SLOT_START = LocalDateTime.of(0, 1, 1, 0, 0);
+    private static final long SLOT_MINUTES = SLOT_LENGTH.toMinutes();
+    private static final int SLOTS_PER_DINING = (int) (DINING_DURATION.toMinutes() / SLOT_MINUTES);
+    // 2^30 slots of 15 minutes last more than 30,000 years
+    private static final int DEPTH = 30;
+    private static final long SLOT_COUNT = 1L << DEPTH;
+    private static final int NO_NODE = 0;
+    private static final int ROOT = 1;
+
+    // Node i covers a range of slots; its children split that range in half. Node 0 stands for a missing child.
+    private int[] leftChild = new int[64];
+    private int[] rightChild = new int[64];
+    private long[] covers = new long[64];
+    private int nodeCount = 2;
+
+    /**
+     * Records {@code pax} covers arriving at {@code arrival}.
+     */
+    void add(LocalDateTime arrival, int pax) {
+        requireAllNonNull(arrival);
+        update(slotOf(arrival), pax);
+    }
+
+    /**
+     * Removes {@code pax} covers arriving at {@code arrival}, which must have been added before.
+     */
+    void remove(LocalDateTime arrival, int pax) {
+        requireAllNonNull(arrival);
+        update(slotOf(arrival), -pax);
+    }
+
+    /**
+     * Returns the number of covers arriving in the slots from the one containing {@code start} up to, but not
+     * including, the one containing {@code end}.
+     */
+    long coversArrivingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return sum(slotOf(start), slotOf(end));
+    }
+
+    /**
+     * Returns the number of seats taken during the slot containing {@code time}, by parties that arrived in it or
+     * within {@link #DINING_DURATION} before it.
+     */
+    long seatsTakenAt(LocalDateTime time) {
+        requireAllNonNull(time);
+        long slot = slotOf(time);
+        return sum(slot - SLOTS_PER_DINING + 1, slot + 1);
+    }
+
+    /**
+     * Returns the most seats taken during any slot that a party arriving at {@code arrival} would be seated for.
+     */
+    long peakSeatsTakenDuring(LocalDateTime arrival) {
+        requireAllNonNull(arrival);
+        long firstSlot = slotOf(arrival);
+        long peak = 0;
+        for (long slot = firstSlot; slot < firstSlot + SLOTS_PER_DINING; slot++) {
+            peak = Math.max(peak, sum(slot - SLOTS_PER_DINING + 1, slot + 1));
+        }
+        return peak;
+    }
+
+    void clear() {
+        Arrays.fill(leftChild, 0, nodeCount, NO_NODE);
+        Arrays.fill(rightChild, 0, nodeCount, NO_NODE);
+        Arrays.fill(covers, 0, nodeCount, 0);
+        nodeCount = 2;
+    }
+
+    private static long slotOf(LocalDateTime dateTime) {
+        long slot = ChronoUnit.MINUTES.between(FIRST_SLOT_START, dateTime) / SLOT_MINUTES;
+        return Math.max(0, Math.min(SLOT_COUNT - 1, slot));
+    }
+
+    private void update(long slot, long delta) {
+        int node = ROOT;
+        long low = 0;
+        long high = SLOT_COUNT;
+        covers[node] += delta;
+        while (high - low > 1) {
+            long mid = (low + high) >>> 1;
+            if (slot < mid) {
+                if (leftChild[node] == NO_NODE) {
+                    leftChild[node] = newNode();
+                }
+                node = leftChild[node];
+                high = mid;
+            } else {
+                if (rightChild[node] == NO_NODE) {
+                    rightChild[node] = newNode();
+                }
+                node = rightChild[node];
+                low = mid;
+            }
+            covers[node] += delta;
+        }
+    }
+
+    /**
+     * Returns the covers arriving in the slots {@code [from, to)}.
+     */
+    private long sum(long from, long to) {
+        return prefixSum(Math.min(Math.max(to, 0), SLOT_COUNT)) - prefixSum(Math.min(Math.max(from, 0), SLOT_COUNT));
+    }
+
+    /**
+     * Returns the covers arriving in the slots before {@code slot}.
+     */
+    private long prefixSum(long slot) {
+        long total = 0;
+        int node = ROOT;
+        long low = 0;
+        long high = SLOT_COUNT;
+        while (node != NO_NODE && slot > low) {
+            if (slot >= high) {
+                return total + covers[node];
+            }
+            long mid = (low + high) >>> 1;
+            if (slot <= mid) {
+                node = leftChild[node];
+                high = mid;
+            } else {
+                total += leftChild[node] == NO_NODE ? 0 : covers[leftChild[node]];
+                node = rightChild[node];
+                low = mid;
+            }
+        }
+        return total;
+    }
+
+    private int newNode() {
+        if (nodeCount == covers.length) {
+            int newLength = covers.length * 2;
+            leftChild = Arrays.copyOf(leftChild, newLength);
+            rightChild = Arrays.copyOf(rightChild, newLength);
+            covers = Arrays.copyOf(covers, newLength);
+        }
+        return nodeCount++;
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.booking;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.function.BiPredicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A window of time that recurs every day, from {@code start} to {@code end}, both inclusive.
+ * If {@code end} is before {@code start}, the window runs past midnight into the next day.
+ */
+public class TimeWindow {
+
+    public static final TimeWindow ALL_DAY = new TimeWindow(LocalTime.MIN, LocalTime.MAX);
+
+    private final LocalTime start;
+    private final LocalTime end;
+
+    /**
+     * Creates a {@code TimeWindow} from {@code start} to {@code end}, both inclusive.
+     */
+    public TimeWindow(LocalTime start, LocalTime end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    public boolean isAllDay() {
+        return equals(ALL_DAY);
+    }
+
+    private boolean isPastMidnight() {
+        return end.isBefore(start);
+    }
+
+    /**
+     * Returns true if {@code time} falls within this window.
+     */
+    public boolean contains(LocalTime time) {
+        if (isPastMidnight()) {
+            return !time.isBefore(start) || !time.isAfter(end);
+        }
+        return !time.isBefore(start) && !time.isAfter(end);
+    }
+
+    /**
+     * Splits the part of {@code [from, to)} that falls within this window into intervals, one or two per day, and
+     * passes each to {@code action} as its start (inclusive) and end (exclusive), earliest first.
+     * Stops as soon as {@code action} returns false, without visiting the remaining days.
+     */
+    public void forEachInterval(LocalDateTime from, LocalDateTime to,
+            BiPredicate<LocalDateTime, LocalDateTime> action) {
+        requireAllNonNull(from, to, action);
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (isAllDay()) {
+            action.test(from, to);
+            return;
+        }
+
+        for (LocalDate day = from.toLocalDate(); day.atStartOfDay().isBefore(to); day = day.plusDays(1)) {
+            // The nanosecond makes the end of the window inclusive
+            LocalDateTime windowEnd = day.atTime(end).plusNanos(1);
+            boolean isContinued = isPastMidnight()
+                    ? testOverlap(day.atStartOfDay(), windowEnd, from, to, action)
+                            && testOverlap(day.atTime(start), day.plusDays(1).atStartOfDay(), from, to, action)
+                    : testOverlap(day.atTime(start), windowEnd, from, to, action);
+            if (!isContinued) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Passes the overlap of {@code [intervalStart, intervalEnd)} and {@code [from, to)}, if any, to {@code action},
+     * and returns false if {@code action} asked to stop.
+     */
+    private static boolean testOverlap(LocalDateTime intervalStart, LocalDateTime intervalEnd, LocalDateTime from,
+            LocalDateTime to, BiPredicate<LocalDateTime, LocalDateTime> action) {
+        LocalDateTime overlapStart = intervalStart.isAfter(from) ? intervalStart : from;
+        LocalDateTime overlapEnd = intervalEnd.isBefore(to) ? intervalEnd : to;
+        return !overlapStart.isBefore(overlapEnd) || action.test(overlapStart, overlapEnd);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeWindow)) {
+            return false;
+        }
+
+        TimeWindow otherWindow = (TimeWindow) other;
+        return start.equals(otherWindow.start) && end.equals(otherWindow.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
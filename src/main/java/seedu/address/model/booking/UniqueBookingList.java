@@ -3,6 +3,10 @@ package seedu.address.model.booking;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -17,7 +21,15 @@ import seedu.address.model.booking.exceptions.DuplicateBookingException;
  * A list of bookings that enforces uniqueness between its elements and does not allow nulls.
  * A booking is considered unique by its booking ID.
  *
- * This class wraps a {@code HashMap<Integer, Booking>} to provide O(1) lookups by booking ID.
+ * This class wraps a {@code HashMap<Integer, Booking>} to provide O(1) lookups by booking ID, and keeps a secondary
+ * index ordered by booking date and time so that date and date-range queries cost O(log n + k). Bookings are also
+ * partitioned by {@link Status}, each partition ordered by date, so status queries do not scan the whole list. The
+ * covers of upcoming bookings are summed per 15-minute slot in a {@link SeatOccupancy}, so the seats taken at any time
+ * are known in O(log n).
+ *
+ * The position of each booking in the backing {@code ObservableList} is tracked by booking ID, so single removals are
+ * O(1) swap-removes and never fall back to {@code Booking#equals}. The order of the backing list is therefore not
+ * meaningful; views that need an order sort it themselves.
  */
 public class UniqueBookingList implements Iterable<Booking> {
 
@@ -25,6 +37,20 @@ public class UniqueBookingList implements Iterable<Booking> {
     private final ObservableList<Booking> internalList = FXCollections.observableArrayList();
     private final ObservableList<Booking> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position of each booking in internalList, by booking ID
+    private final Map<Integer, Integer> slots = new HashMap<>();
+    private final BookingDateIndex dateIndex = new BookingDateIndex();
+    private final Map<Status, BookingDateIndex> statusPartitions = new EnumMap<>(Status.class);
+    private final SeatOccupancy upcomingOccupancy = new SeatOccupancy();
+
+    /**
+     * Creates an empty {@code UniqueBookingList}.
+     */
+    public UniqueBookingList() {
+        for (Status status : Status.values()) {
+            statusPartitions.put(status, new BookingDateIndex());
+        }
+    }
 
     /**
      * Returns true if the list contains a booking with the same ID as the given booking.
@@ -46,7 +72,9 @@ public class UniqueBookingList implements Iterable<Booking> {
             throw new DuplicateBookingException();
         }
         internalMap.put(booking.getBookingId(), booking);
+        slots.put(booking.getBookingId(), internalList.size());
         internalList.add(booking);
+        addToIndexes(booking);
     }
 
     /**
@@ -60,7 +88,8 @@ public class UniqueBookingList implements Iterable<Booking> {
         if (removed == null) {
             throw new BookingNotFoundException();
         }
-        internalList.remove(removed);
+        removeFromList(removed);
+        removeFromIndexes(removed);
     }
 
     /**
@@ -74,7 +103,8 @@ public class UniqueBookingList implements Iterable<Booking> {
         if (removed == null) {
             throw new BookingNotFoundException();
         }
-        internalList.remove(removed);
+        removeFromList(removed);
+        removeFromIndexes(removed);
     }
 
     /**
@@ -98,11 +128,33 @@ public class UniqueBookingList implements Iterable<Booking> {
             throw new DuplicateBookingException();
         }
 
-        internalMap.remove(targetId);
+        Booking replaced = internalMap.remove(targetId);
         internalMap.put(editedId, editedBooking);
 
-        int index = internalList.indexOf(target);
-        internalList.set(index, editedBooking);
+        int slot = slots.remove(targetId);
+        slots.put(editedId, slot);
+        internalList.set(slot, editedBooking);
+        removeFromIndexes(replaced);
+        addToIndexes(editedBooking);
+    }
+
+    /**
+     * Updates the fields of the booking with the given booking ID, keeping the indexes in sync.
+     *
+     * @see Booking#updateFields(HashMap)
+     * @throws BookingNotFoundException if no booking with the given ID exists.
+     */
+    public void updateFields(int bookingId, HashMap<String, Object> fieldsToEdit) {
+        requireNonNull(fieldsToEdit);
+        Booking booking = getBooking(bookingId);
+        if (booking == null) {
+            throw new BookingNotFoundException();
+        }
+
+        removeFromIndexes(booking);
+        booking.updateFields(fieldsToEdit);
+        addToIndexes(booking);
+        fireUpdated(booking);
     }
 
     /**
@@ -122,9 +174,15 @@ public class UniqueBookingList implements Iterable<Booking> {
         }
 
         internalMap.clear();
-        internalList.clear();
+        dateIndex.clear();
+        statusPartitions.values().forEach(BookingDateIndex::clear);
+        upcomingOccupancy.clear();
         internalMap.putAll(tempMap);
-        internalList.addAll(bookings);
+        internalList.setAll(bookings);
+        recomputeSlots();
+        for (Booking booking : bookings) {
+            addToIndexes(booking);
+        }
     }
 
     /**
@@ -145,35 +203,143 @@ public class UniqueBookingList implements Iterable<Booking> {
     }
 
     /**
-     * Returns all upcoming bookings.
+     * Returns all bookings whose booking date and time is within {@code [start, end)}, earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        return dateIndex.getBookingsBetween(start, end);
+    }
+
+    /**
+     * Returns all bookings whose booking date and time is within {@code [start, end)} and whose time of day is within
+     * {@code window}, earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window) {
+        return dateIndex.getBookingsBetween(start, end, window);
+    }
+
+    /**
+     * Returns all bookings with the given status whose booking date and time is within {@code [start, end)} and whose
+     * time of day is within {@code window}, earliest first. Only the partition of that status is scanned.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window, Status status) {
+        requireNonNull(status);
+        return statusPartitions.get(status).getBookingsBetween(start, end, window);
+    }
+
+    /**
+     * Returns the number of bookings that {@link #getBookingsBetween(LocalDateTime, LocalDateTime, TimeWindow)} would
+     * return, or any number greater than {@code limit} if there are more than {@code limit} of them.
+     */
+    public int countBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window, int limit) {
+        return dateIndex.countBetween(start, end, window, limit);
+    }
+
+    /**
+     * Returns the number of bookings that
+     * {@link #getBookingsBetween(LocalDateTime, LocalDateTime, TimeWindow, Status)} would return, or any number
+     * greater than {@code limit} if there are more than {@code limit} of them.
+     */
+    public int countBookingsBetween(LocalDateTime start, LocalDateTime end, TimeWindow window, Status status,
+            int limit) {
+        requireNonNull(status);
+        return statusPartitions.get(status).countBetween(start, end, window, limit);
+    }
+
+    /**
+     * Returns the number of covers of upcoming bookings made for a date and time within {@code [start, end)},
+     * counted by 15-minute slot.
+     */
+    public long countUpcomingCoversBetween(LocalDateTime start, LocalDateTime end) {
+        return upcomingOccupancy.coversArrivingBetween(start, end);
+    }
+
+    /**
+     * Returns the number of seats taken by upcoming bookings at {@code time}, assuming every party stays for
+     * {@link SeatOccupancy#DINING_DURATION}.
+     */
+    public long getSeatsTakenAt(LocalDateTime time) {
+        return upcomingOccupancy.seatsTakenAt(time);
+    }
+
+    /**
+     * Returns the most seats taken by upcoming bookings at any time while a party arriving at {@code arrival} would be
+     * seated.
+     */
+    public long getPeakSeatsTakenDuring(LocalDateTime arrival) {
+        return upcomingOccupancy.peakSeatsTakenDuring(arrival);
+    }
+
+    /**
+     * Returns all bookings on the given date, earliest first.
+     */
+    public List<Booking> getBookingsOn(LocalDate date) {
+        requireNonNull(date);
+        return getBookingsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns all bookings with the given status, earliest first.
+     */
+    public List<Booking> getBookings(Status status) {
+        requireNonNull(status);
+        return statusPartitions.get(status).toList();
+    }
+
+    /**
+     * Returns true if there is at least one booking with the given status.
+     */
+    public boolean hasBookings(Status status) {
+        requireNonNull(status);
+        return !statusPartitions.get(status).isEmpty();
+    }
+
+    /**
+     * Returns the number of bookings with the given status.
+     */
+    public int countBookings(Status status) {
+        requireNonNull(status);
+        return statusPartitions.get(status).size();
+    }
+
+    /**
+     * Returns the number of bookings on the given date with the given status.
+     * Costs O(log n) plus the number of distinct booking times that day.
+     */
+    public int countBookingsOn(LocalDate date, Status status) {
+        requireAllNonNull(date, status);
+        return statusPartitions.get(status).countBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns all upcoming bookings, earliest first.
      */
     public List<Booking> getUpcomingBookings() {
-        return internalList.stream()
-                .filter(booking -> booking.getStatus() == Status.UPCOMING)
-                .sorted((b1, b2) -> b1.getBookingDateTime().compareTo(b2.getBookingDateTime()))
-                .toList();
+        return getBookings(Status.UPCOMING);
     }
 
 
     /**
-     * Returns all cancelled or completed bookings.
+     * Returns all cancelled or completed bookings, earliest first.
      */
     public List<Booking> getCancelledOrCompletedBookings() {
-        return internalList.stream()
-                .filter(booking -> booking.getStatus() != Status.UPCOMING)
-                .sorted((b1, b2) -> b1.getBookingDateTime().compareTo(b2.getBookingDateTime()))
-                .toList();
+        return BookingDateIndex.merge(getBookings(Status.CANCELLED), getBookings(Status.COMPLETED));
     }
 
     /**
      * Sets the status of the booking with the given booking ID.
      */
     public void setBookingStatus(int bookingId, Status newStatus) {
+        requireNonNull(newStatus);
         Booking booking = getBooking(bookingId);
         if (booking == null) {
             throw new BookingNotFoundException();
         }
+        removeFromOccupancy(booking);
+        statusPartitions.get(booking.getStatus()).remove(booking);
         booking.setStatus(newStatus);
+        statusPartitions.get(newStatus).add(booking);
+        addToOccupancy(booking);
+        fireUpdated(booking);
     }
 
     /**
@@ -199,15 +365,89 @@ public class UniqueBookingList implements Iterable<Booking> {
     }
 
     /**
-     * Removes all cancelled or completed bookings.
+     * Removes all bookings with any of the given statuses. Each status partition is dropped as a whole, and the
+     * backing list is compacted in a single pass that fires one change event.
+     *
+     * @return the removed bookings.
      */
-    public void clearBookings(List<Booking> bookingsToClear) {
+    public List<Booking> clearBookings(Status... statuses) {
+        List<Booking> bookingsToClear = new ArrayList<>();
+        for (Status status : statuses) {
+            BookingDateIndex partition = statusPartitions.put(status, new BookingDateIndex());
+            bookingsToClear.addAll(partition.toList());
+        }
+
+        if (bookingsToClear.isEmpty()) {
+            return bookingsToClear;
+        }
+
         for (Booking booking : bookingsToClear) {
-            int id = booking.getBookingId();
-            internalMap.remove(id);
+            internalMap.remove(booking.getBookingId());
+            dateIndex.remove(booking);
+            removeFromOccupancy(booking);
         }
 
-        internalList.removeAll(bookingsToClear);
+        List<Booking> remaining = new ArrayList<>(internalMap.size());
+        for (Booking booking : internalList) {
+            if (internalMap.containsKey(booking.getBookingId())) {
+                remaining.add(booking);
+            }
+        }
+        internalList.setAll(remaining);
+        recomputeSlots();
+        return bookingsToClear;
+    }
+
+    /**
+     * Removes {@code booking} from the backing list by moving the last booking into its slot.
+     */
+    private void removeFromList(Booking booking) {
+        int slot = slots.remove(booking.getBookingId());
+        int lastSlot = internalList.size() - 1;
+        if (slot != lastSlot) {
+            Booking last = internalList.get(lastSlot);
+            internalList.set(slot, last);
+            slots.put(last.getBookingId(), slot);
+        }
+        internalList.remove(lastSlot);
+    }
+
+    /**
+     * Notifies listeners of the backing list that {@code booking} was changed in place.
+     */
+    private void fireUpdated(Booking booking) {
+        internalList.set(slots.get(booking.getBookingId()), booking);
+    }
+
+    private void recomputeSlots() {
+        slots.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            slots.put(internalList.get(i).getBookingId(), i);
+        }
+    }
+
+    private void addToIndexes(Booking booking) {
+        dateIndex.add(booking);
+        statusPartitions.get(booking.getStatus()).add(booking);
+        addToOccupancy(booking);
+    }
+
+    private void removeFromIndexes(Booking booking) {
+        dateIndex.remove(booking);
+        statusPartitions.get(booking.getStatus()).remove(booking);
+        removeFromOccupancy(booking);
+    }
+
+    private void addToOccupancy(Booking booking) {
+        if (booking.getStatus() == Status.UPCOMING) {
+            upcomingOccupancy.add(booking.getBookingDateTime(), booking.getPax());
+        }
+    }
+
+    private void removeFromOccupancy(Booking booking) {
+        if (booking.getStatus() == Status.UPCOMING) {
+            upcomingOccupancy.remove(booking.getBookingDateTime(), booking.getPax());
+        }
     }
 
     @Override
@@ -0,0 +1,240 @@
+package seedu.address.model.person;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of booking IDs kept as a sorted array of {@code int}s.
+ *
+ * Each ID takes 4 bytes, rather than the hash node and boxed {@code Integer} of a {@code HashSet<Integer>}.
+ * {@link #contains(int)} and {@link #forEachId(IntConsumer)} work on the {@code int}s directly and allocate nothing.
+ * New bookings get the highest ID so far, so adding one usually appends to the end of the array.
+ */
+public class BookingIdSet extends AbstractSet<Integer> {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private int[] ids = NO_IDS;
+    private int size = 0;
+    private int modCount = 0;
+
+    public BookingIdSet() {}
+
+    /**
+     * Creates a {@code BookingIdSet} with the IDs in {@code bookingIds}.
+     */
+    public BookingIdSet(Collection<Integer> bookingIds) {
+        if (bookingIds instanceof BookingIdSet) {
+            BookingIdSet other = (BookingIdSet) bookingIds;
+            ids = other.toIntArray();
+            size = ids.length;
+        } else {
+            addAll(bookingIds);
+        }
+    }
+
+    /**
+     * Creates a {@code BookingIdSet} with the IDs in {@code bookingIds}, which may be unsorted and contain duplicates.
+     */
+    public static BookingIdSet of(int... bookingIds) {
+        int[] sorted = bookingIds.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int id : sorted) {
+            if (count == 0 || sorted[count - 1] != id) {
+                sorted[count++] = id;
+            }
+        }
+
+        BookingIdSet set = new BookingIdSet();
+        set.ids = count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+        set.size = count;
+        return set;
+    }
+
+    /**
+     * Returns true if this set contains {@code bookingId}.
+     */
+    public boolean contains(int bookingId) {
+        return indexOf(bookingId) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains((int) (Integer) o);
+    }
+
+    /**
+     * Adds {@code bookingId} to this set.
+     *
+     * @return true if this set did not already contain {@code bookingId}.
+     */
+    public boolean add(int bookingId) {
+        if (size == 0 || ids[size - 1] < bookingId) {
+            append(bookingId);
+            return true;
+        }
+
+        int index = indexOf(bookingId);
+        if (index >= 0) {
+            return false;
+        }
+        int insertionPoint = -index - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = bookingId;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(Integer bookingId) {
+        return add((int) bookingId);
+    }
+
+    /**
+     * Removes {@code bookingId} from this set.
+     *
+     * @return true if this set contained {@code bookingId}.
+     */
+    public boolean remove(int bookingId) {
+        int index = indexOf(bookingId);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Integer && remove((int) (Integer) o);
+    }
+
+    @Override
+    public void clear() {
+        ids = NO_IDS;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs {@code action} on each ID in this set, in ascending order.
+     */
+    public void forEachId(IntConsumer action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns the IDs in this set in ascending order.
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Returns an iterator over the IDs in this set in ascending order.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = 0;
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                checkForComodification();
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                last = next++;
+                return ids[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                removeAt(last);
+                next = last;
+                last = -1;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as Set.hashCode(), since an Integer hashes to its value
+        int hash = 0;
+        for (int i = 0; i < size; i++) {
+            hash += ids[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof BookingIdSet) {
+            BookingIdSet otherSet = (BookingIdSet) other;
+            return Arrays.equals(ids, 0, size, otherSet.ids, 0, otherSet.size);
+        }
+        return super.equals(other);
+    }
+
+    private int indexOf(int bookingId) {
+        return Arrays.binarySearch(ids, 0, size, bookingId);
+    }
+
+    private void append(int bookingId) {
+        ensureCapacity(size + 1);
+        ids[size++] = bookingId;
+        modCount++;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        modCount++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, ids.length + (ids.length >> 1) + 1));
+        }
+    }
+}
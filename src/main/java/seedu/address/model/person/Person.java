@@ -27,7 +27,7 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private boolean isMember; // member / public
     private Date dateJoined;
-    private Set<Integer> bookingIDs = new HashSet<>();
+    private final BookingIdSet bookingIDs;
 
     /**
      * Every field must be present and not null.
@@ -46,7 +46,7 @@ public class Person {
         } else {
             this.dateJoined = null;
         }
-        this.bookingIDs.addAll(bookingIDs);
+        this.bookingIDs = new BookingIdSet(bookingIDs);
     }
 
     /**
@@ -60,14 +60,14 @@ public class Person {
      * Constructor overload without bookings field. Loads person with no bookings.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, boolean isMember) {
-        this(name, phone, email, address, tags, isMember, new HashSet<>());
+        this(name, phone, email, address, tags, isMember, new BookingIdSet());
     }
 
     /**
      * Constructor overload without bookings field and isMember field. Loads person with no bookings.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        this(name, phone, email, address, tags, false, new HashSet<>());
+        this(name, phone, email, address, tags, false, new BookingIdSet());
     }
 
     public Name getName() {
@@ -98,7 +98,7 @@ public class Person {
      * Returns set of bookings the person has.
      * @return set of bookings.
      */
-    public Set<Integer> getBookingIDs() {
+    public BookingIdSet getBookingIDs() {
         return bookingIDs;
     }
 
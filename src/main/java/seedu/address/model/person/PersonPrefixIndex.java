@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Finds persons by the start of their phone number or name.
+ *
+ * Phone numbers and lowercase names are kept in sorted maps, so finding the first {@code limit} persons with a given
+ * prefix costs O(log n + limit) rather than a scan of every person.
+ */
+class PersonPrefixIndex {
+
+    // Separates a name from the phone number that makes its key unique; sorts before every character of a name
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final NavigableMap<String, Person> personsByPhone = new TreeMap<>();
+    private final NavigableMap<String, Person> personsByName = new TreeMap<>();
+
+    void add(Person person) {
+        personsByPhone.put(person.getPhone().value, person);
+        personsByName.put(nameKeyOf(person), person);
+    }
+
+    void remove(Person person) {
+        personsByPhone.remove(person.getPhone().value);
+        personsByName.remove(nameKeyOf(person));
+    }
+
+    void clear() {
+        personsByPhone.clear();
+        personsByName.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose phone numbers start with {@code prefix}, in order of phone number.
+     */
+    List<Person> findByPhonePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return firstWithPrefix(personsByPhone, prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose names start with {@code prefix}, ignoring case, in order of name.
+     */
+    List<Person> findByNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return firstWithPrefix(personsByName, prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    private static List<Person> firstWithPrefix(NavigableMap<String, Person> persons, String prefix, int limit) {
+        List<Person> matches = new ArrayList<>();
+        for (Map.Entry<String, Person> entry : persons.tailMap(prefix, true).entrySet()) {
+            if (matches.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    private static String nameKeyOf(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT) + KEY_SEPARATOR + person.getPhone().value;
+    }
+}
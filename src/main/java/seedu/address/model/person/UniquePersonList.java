@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,7 +20,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. A {@code Phone}-keyed index is maintained alongside the backing list so
+ * that identity checks and lookups by phone number are O(1), and a {@link PersonPrefixIndex} so that persons can be
+ * looked up by the start of their phone number or name as it is typed.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,13 +31,37 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    private final PersonPrefixIndex prefixIndex = new PersonPrefixIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the person with the given phone number, or null if no such person exists.
+     */
+    public Person getPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.get(phone);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose phone numbers start with {@code prefix}, in order of phone number.
+     */
+    public List<Person> getPersonsWithPhonePrefix(String prefix, int limit) {
+        return prefixIndex.findByPhonePrefix(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose names start with {@code prefix}, ignoring case, in order of name.
+     */
+    public List<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+        return prefixIndex.findByNamePrefix(prefix, limit);
     }
 
     /**
@@ -46,26 +74,43 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        phoneIndex.put(toAdd.getPhone(), toAdd);
+        prefixIndex.add(toAdd);
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
-     * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * Checks that {@link #setPerson(Person, Person)} would succeed, without changing the list.
+     *
+     * @throws PersonNotFoundException if {@code target} is not in the list.
+     * @throws DuplicatePersonException if {@code editedPerson} has the identity of another person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public void checkCanSetPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        // Phone numbers are unique, so target is in the list only if it is the person with its phone number
+        if (!target.equals(phoneIndex.get(target.getPhone()))) {
             throw new PersonNotFoundException();
         }
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+    }
+
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * {@code target} must exist in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        checkCanSetPerson(target, editedPerson);
 
+        int index = internalList.indexOf(target);
         internalList.set(index, editedPerson);
+        phoneIndex.remove(target.getPhone());
+        phoneIndex.put(editedPerson.getPhone(), editedPerson);
+        prefixIndex.remove(target);
+        prefixIndex.add(editedPerson);
     }
 
     /**
@@ -77,11 +122,16 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        phoneIndex.remove(toRemove.getPhone());
+        prefixIndex.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        rebuildPrefixIndex();
     }
 
     /**
@@ -90,11 +140,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Phone, Person> replacementIndex = indexByPhone(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacementIndex);
+        rebuildPrefixIndex();
+    }
+
+    private void rebuildPrefixIndex() {
+        prefixIndex.clear();
+        internalList.forEach(prefixIndex::add);
     }
 
     /**
@@ -135,16 +194,16 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by phone number, or null if {@code persons} contains duplicate persons.
+     * Uniqueness is validated in a single pass.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Phone, Person> indexByPhone(List<Person> persons) {
+        Map<Phone, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getPhone(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,267 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.BookingIdSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in persons and bookings to the persons and bookings that contain them.
+ *
+ * A person is indexed under the words of their name, email, address and tags, and a booking under the words of its
+ * remarks. Words are lowercased, and split at anything that is not a letter or digit. Persons are identified by
+ * phone number and bookings by booking ID. The index must be told about every change to the indexed fields.
+ */
+public class SearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+
+    /**
+     * Returns the distinct lowercase words in {@code text}, in order of first appearance.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Indexes the searchable fields of {@code person}.
+     */
+    public void addPerson(Person person) {
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new Postings()).phones.add(person.getPhone());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. {@code person} must have the same fields as when it was added.
+     */
+    public void removePerson(Person person) {
+        for (String token : tokensOf(person)) {
+            Postings tokenPostings = postings.get(token);
+            if (tokenPostings != null) {
+                tokenPostings.phones.remove(person.getPhone());
+                removeIfEmpty(token, tokenPostings);
+            }
+        }
+    }
+
+    /**
+     * Indexes the remarks of {@code booking}.
+     */
+    public void addBooking(Booking booking) {
+        for (String token : tokenize(booking.getRemarks())) {
+            postings.computeIfAbsent(token, unused -> new Postings()).bookingIds.add(booking.getBookingId());
+        }
+    }
+
+    /**
+     * Removes {@code booking} from the index. {@code booking} must have the same remarks as when it was added.
+     */
+    public void removeBooking(Booking booking) {
+        for (String token : tokenize(booking.getRemarks())) {
+            Postings tokenPostings = postings.get(token);
+            if (tokenPostings != null) {
+                tokenPostings.bookingIds.remove(booking.getBookingId());
+                removeIfEmpty(token, tokenPostings);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clearPersons() {
+        postings.values().forEach(tokenPostings -> tokenPostings.phones.clear());
+        postings.values().removeIf(Postings::isEmpty);
+    }
+
+    /**
+     * Removes all bookings from the index.
+     */
+    public void clearBookings() {
+        postings.values().forEach(tokenPostings -> tokenPostings.bookingIds.clear());
+        postings.values().removeIf(Postings::isEmpty);
+    }
+
+    /**
+     * Returns the phone numbers of the persons who match {@code query}. A person also matches a term if one of their
+     * bookings does; {@code bookingPhone} gives the phone number of the person who made a booking, and
+     * {@code bookingIds} the IDs of the bookings made by a person.
+     */
+    public Set<Phone> search(SearchQuery query, IntFunction<Phone> bookingPhone,
+            Function<Phone, BookingIdSet> bookingIds) {
+        requireNonNull(query);
+        Set<Phone> result = new HashSet<>();
+        for (List<SearchQuery.Term> clause : query.getClauses()) {
+            List<TermMatch> termMatches = new ArrayList<>(clause.size());
+            for (SearchQuery.Term term : clause) {
+                termMatches.add(new TermMatch(postingsOf(term)));
+            }
+            // Only the rarest term has its persons copied out and its bookings resolved to phone numbers; the other
+            // terms are probed for each of those persons
+            termMatches.sort(Comparator.comparingInt(TermMatch::estimatedSize));
+            Set<Phone> clauseMatches = termMatches.get(0).toSet(bookingPhone);
+            for (int i = 1; i < termMatches.size() && !clauseMatches.isEmpty(); i++) {
+                TermMatch termMatch = termMatches.get(i);
+                clauseMatches.removeIf(phone -> termMatch.doesNotContain(phone, bookingIds.apply(phone)));
+            }
+            result.addAll(clauseMatches);
+        }
+        return result;
+    }
+
+    private Collection<Postings> postingsOf(SearchQuery.Term term) {
+        String token = term.getToken();
+        if (term.isPrefix()) {
+            return postings.subMap(token, true, token + Character.MAX_VALUE, false).values();
+        }
+        Postings tokenPostings = postings.get(token);
+        return tokenPostings == null ? Collections.emptyList() : List.of(tokenPostings);
+    }
+
+    private void removeIfEmpty(String token, Postings tokenPostings) {
+        if (tokenPostings.isEmpty()) {
+            postings.remove(token);
+        }
+    }
+
+    private static Set<String> tokensOf(Person person) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(tokenize(person.getName().fullName));
+        tokens.addAll(tokenize(person.getEmail().value));
+        tokens.addAll(tokenize(person.getAddress().value));
+        for (Tag tag : person.getTags()) {
+            tokens.addAll(tokenize(tag.tagName));
+        }
+        return tokens;
+    }
+
+    /**
+     * The persons and bookings that match one term of a query.
+     */
+    private static class TermMatch {
+        private final Collection<Postings> matchingPostings;
+        private final int phoneCount;
+        private final int bookingIdCount;
+        private Set<Phone> mergedPhones;
+        private BookingIdSet mergedBookingIds;
+
+        TermMatch(Collection<Postings> matchingPostings) {
+            this.matchingPostings = matchingPostings;
+            int phones = 0;
+            int ids = 0;
+            for (Postings tokenPostings : matchingPostings) {
+                phones += tokenPostings.phones.size();
+                ids += tokenPostings.bookingIds.size();
+            }
+            phoneCount = phones;
+            bookingIdCount = ids;
+        }
+
+        /**
+         * Returns an upper bound on the number of persons who match, found without resolving any booking.
+         */
+        int estimatedSize() {
+            return phoneCount + bookingIdCount;
+        }
+
+        /**
+         * Returns the phone numbers of the persons who match, resolving each matching booking through
+         * {@code bookingPhone}.
+         */
+        Set<Phone> toSet(IntFunction<Phone> bookingPhone) {
+            Set<Phone> phones = new HashSet<>();
+            for (Postings tokenPostings : matchingPostings) {
+                phones.addAll(tokenPostings.phones);
+                tokenPostings.bookingIds.forEachId(bookingId -> {
+                    Phone phone = bookingPhone.apply(bookingId);
+                    if (phone != null) {
+                        phones.add(phone);
+                    }
+                });
+            }
+            return phones;
+        }
+
+        /**
+         * Returns true if neither the person with {@code phone} nor any of their bookings, {@code personBookingIds},
+         * matches. The postings of every matching word are merged on the first call, so each call is a few lookups.
+         */
+        boolean doesNotContain(Phone phone, BookingIdSet personBookingIds) {
+            if (mergedPhones == null) {
+                merge();
+            }
+            if (mergedPhones.contains(phone)) {
+                return false;
+            }
+            for (PrimitiveIterator.OfInt iterator = personBookingIds.iterator(); iterator.hasNext();) {
+                if (mergedBookingIds.contains(iterator.nextInt())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void merge() {
+            if (matchingPostings.size() == 1) {
+                Postings tokenPostings = matchingPostings.iterator().next();
+                mergedPhones = tokenPostings.phones;
+                mergedBookingIds = tokenPostings.bookingIds;
+                return;
+            }
+
+            mergedPhones = new HashSet<>(phoneCount);
+            int[] ids = new int[bookingIdCount];
+            int idCount = 0;
+            for (Postings tokenPostings : matchingPostings) {
+                mergedPhones.addAll(tokenPostings.phones);
+                int[] tokenIds = tokenPostings.bookingIds.toIntArray();
+                System.arraycopy(tokenIds, 0, ids, idCount, tokenIds.length);
+                idCount += tokenIds.length;
+            }
+            mergedBookingIds = BookingIdSet.of(ids);
+        }
+    }
+
+    /**
+     * The persons and bookings that contain a word.
+     */
+    private static class Postings {
+        private final Set<Phone> phones = new HashSet<>();
+        private final BookingIdSet bookingIds = new BookingIdSet();
+
+        private boolean isEmpty() {
+            return phones.isEmpty() && bookingIds.isEmpty();
+        }
+    }
+}
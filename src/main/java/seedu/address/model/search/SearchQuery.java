@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A full-text query over the persons and bookings in the address book.
+ * A person matches if they match any one of the clauses, and they match a clause if they match every term in it.
+ */
+public class SearchQuery {
+
+    private final List<List<Term>> clauses;
+
+    /**
+     * Every clause must have at least one term.
+     */
+    public SearchQuery(List<List<Term>> clauses) {
+        requireNonNull(clauses);
+        this.clauses = clauses.stream().map(List::copyOf).toList();
+    }
+
+    public List<List<Term>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchQuery)) {
+            return false;
+        }
+
+        SearchQuery otherQuery = (SearchQuery) other;
+        return clauses.equals(otherQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+
+    /**
+     * A single word to look for, or the start of one.
+     */
+    public static class Term {
+        private final String token;
+        private final boolean isPrefix;
+
+        /**
+         * {@code token} must be a token returned by {@link SearchIndex#tokenize(String)}.
+         */
+        public Term(String token, boolean isPrefix) {
+            requireNonNull(token);
+            this.token = token;
+            this.isPrefix = isPrefix;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public boolean isPrefix() {
+            return isPrefix;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Term)) {
+                return false;
+            }
+
+            Term otherTerm = (Term) other;
+            return token.equals(otherTerm.token) && isPrefix == otherTerm.isPrefix;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(token, isPrefix);
+        }
+
+        @Override
+        public String toString() {
+            return isPrefix ? token + "*" : token;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.QueryModel;
+
+/**
+ * Serves the commands of a {@code Logic} over HTTP on the loopback interface, so that several devices can share one
+ * address book without the GUI.
+ *
+ * Clients POST the command as JSON, e.g. {@code {"command": "list"}}, to {@link #COMMANDS_PATH} and get back a JSON
+ * reply. Binding to the loopback interface does not keep out web pages open in a browser on the same computer, so
+ * requests that carry an {@code Origin} header, or whose body is not {@code application/json}, are refused: a page
+ * can only send such a request after a CORS preflight, which this server never approves.
+ *
+ * Every request is handled on its own thread. Commands that change the address book are handed to
+ * {@link Logic#executeAsync(Command)}, which runs them one at a time in the order they arrived. Read-only commands
+ * run in parallel on their request threads under the address book's read lock, each against its own
+ * {@link QueryModel}, so that concurrent queries see a consistent address book and do not disturb each other's
+ * filters.
+ */
+public class CommandServer {
+
+    public static final String COMMANDS_PATH = "/commands";
+
+    public static final String MESSAGE_CROSS_ORIGIN_REQUEST = "Requests from web pages are not accepted.";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "The request body must be application/json.";
+    public static final String MESSAGE_INVALID_REQUEST = "The request body must be a JSON object with a command.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error while executing the command: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Logic logic;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final HttpServer httpServer;
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates a {@code CommandServer} for {@code logic} that will listen on {@code port} of the loopback interface.
+     * A {@code port} of 0 picks any free port.
+     */
+    public CommandServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        requestExecutor = Executors.newCachedThreadPool(namedDaemonThreads("command-server-request-"));
+        httpServer.setExecutor(requestExecutor);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommandRequest);
+    }
+
+    private static ThreadFactory namedDaemonThreads(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Serving commands on http://" + httpServer.getAddress().getHostString() + ":" + getPort()
+                + COMMANDS_PATH);
+    }
+
+    /**
+     * Stops accepting requests.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        requestExecutor.shutdown();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private void handleCommandRequest(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                logger.warning("Refused a request from the web page at "
+                        + exchange.getRequestHeaders().getFirst("Origin"));
+                sendResponse(exchange, 403, JsonCommandResponse.ofFailure(MESSAGE_CROSS_ORIGIN_REQUEST));
+                return;
+            }
+            if (!isJson(exchange.getRequestHeaders().getFirst("Content-Type"))) {
+                sendResponse(exchange, 415, JsonCommandResponse.ofFailure(MESSAGE_UNSUPPORTED_CONTENT_TYPE));
+                return;
+            }
+
+            JsonCommandRequest request;
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                request = JsonUtil.fromJsonString(new String(requestBody.readAllBytes(), StandardCharsets.UTF_8),
+                        JsonCommandRequest.class);
+            } catch (JsonProcessingException e) {
+                request = null;
+            }
+            if (request == null || request.getCommand() == null) {
+                sendResponse(exchange, 400, JsonCommandResponse.ofFailure(MESSAGE_INVALID_REQUEST));
+                return;
+            }
+
+            JsonCommandResponse response;
+            int statusCode;
+            try {
+                response = execute(request.getCommand().trim());
+                statusCode = response.isSuccess() ? 200 : 400;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Unexpected error while executing " + request.getCommand(), e);
+                response = JsonCommandResponse.ofFailure(String.format(MESSAGE_UNEXPECTED_ERROR, e));
+                statusCode = 500;
+            }
+            sendResponse(exchange, statusCode, response);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to handle request from " + exchange.getRemoteAddress(), e);
+            throw e;
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        // Parameters such as "; charset=utf-8" may follow the media type
+        return contentType != null
+                && contentType.split(";", 2)[0].trim().equalsIgnoreCase("application/json");
+    }
+
+    private static void sendResponse(HttpExchange exchange, int statusCode, JsonCommandResponse response)
+            throws IOException {
+        byte[] responseBody = JsonUtil.toCompactJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, responseBody.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(responseBody);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and returns the reply to send back.
+     * Failures other than the command being invalid are thrown as they are.
+     */
+    JsonCommandResponse execute(String commandText) {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            return command.isReadOnly() ? executeQuery(command) : executeUpdate(command);
+        } catch (CommandException | ParseException e) {
+            return JsonCommandResponse.ofFailure(e.getMessage());
+        }
+    }
+
+    private JsonCommandResponse executeQuery(Command command) throws CommandException {
+        ReadWriteLock addressBookLock = logic.getAddressBookLock();
+        Lock readLock = addressBookLock.readLock();
+        readLock.lock();
+        try {
+            QueryModel queryModel = new QueryModel(logic.getAddressBook(), logic.getUserPrefs(), addressBookLock);
+            CommandResult commandResult = command.execute(queryModel);
+            return JsonCommandResponse.ofQuery(commandResult.getFeedbackToUser(),
+                    queryModel.getFilteredPersonList(), queryModel.getFilteredBookingList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private JsonCommandResponse executeUpdate(Command command) throws CommandException {
+        try {
+            return JsonCommandResponse.ofUpdate(logic.executeAsync(command).get().getFeedbackToUser());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException("Interrupted while waiting for the command to finish.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Unexpected error while executing " + command, cause);
+        }
+    }
+}
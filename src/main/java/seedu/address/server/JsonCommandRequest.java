@@ -0,0 +1,24 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly request to the {@link CommandServer} to run a single command.
+ */
+class JsonCommandRequest {
+
+    private final String command;
+
+    /**
+     * Constructs a {@code JsonCommandRequest} for the given {@code command} text.
+     */
+    @JsonCreator
+    JsonCommandRequest(@JsonProperty("command") String command) {
+        this.command = command;
+    }
+
+    String getCommand() {
+        return command;
+    }
+}
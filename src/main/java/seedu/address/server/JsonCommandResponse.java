@@ -0,0 +1,98 @@
+package seedu.address.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly reply of the {@link CommandServer} to a single command.
+ * Replies to read-only commands also carry the persons and bookings that the command listed.
+ */
+class JsonCommandResponse {
+
+    private final boolean success;
+    private final String feedback;
+    private final List<JsonPersonSummary> persons;
+    private final List<JsonBookingSummary> bookings;
+
+    private JsonCommandResponse(boolean success, String feedback, List<JsonPersonSummary> persons,
+                                List<JsonBookingSummary> bookings) {
+        this.success = success;
+        this.feedback = feedback;
+        this.persons = persons;
+        this.bookings = bookings;
+    }
+
+    /**
+     * Returns a reply to a command that changed the address book.
+     */
+    static JsonCommandResponse ofUpdate(String feedback) {
+        return new JsonCommandResponse(true, feedback, null, null);
+    }
+
+    /**
+     * Returns a reply to a read-only command that listed {@code persons} and {@code bookings}.
+     * Must be called while the address book cannot change, as the listed details are copied here.
+     */
+    static JsonCommandResponse ofQuery(String feedback, List<Person> persons, List<Booking> bookings) {
+        return new JsonCommandResponse(true, feedback,
+                persons.stream().map(JsonPersonSummary::new).collect(Collectors.toList()),
+                bookings.stream().map(JsonBookingSummary::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a reply to a command that could not be parsed or executed.
+     */
+    static JsonCommandResponse ofFailure(String message) {
+        return new JsonCommandResponse(false, message, null, null);
+    }
+
+    boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * Details of a listed person.
+     */
+    private static class JsonPersonSummary {
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final boolean isMember;
+
+        JsonPersonSummary(Person source) {
+            name = source.getName().fullName;
+            phone = source.getPhone().value;
+            email = source.getEmail().value;
+            address = source.getAddress().value;
+            isMember = source.getMemberStatus();
+        }
+    }
+
+    /**
+     * Details of a listed booking, including who made it.
+     */
+    private static class JsonBookingSummary {
+        private final int bookingId;
+        private final String bookingDate;
+        private final String name;
+        private final String phone;
+        private final int pax;
+        private final String remarks;
+        private final String status;
+
+        JsonBookingSummary(Booking source) {
+            bookingId = source.getBookingId();
+            bookingDate = source.getBookingDateTime().toString();
+            Person bookingPerson = source.getBookingPerson();
+            name = bookingPerson == null ? null : bookingPerson.getName().fullName;
+            phone = bookingPerson == null ? null : bookingPerson.getPhone().value;
+            pax = source.getPax();
+            remarks = source.getRemarks();
+            status = source.getStatus().toString();
+        }
+    }
+}
@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the data that {@link #saveAddressBook(ReadOnlyAddressBook, Path)} would write, without writing it.
+     * The returned save does not read {@code addressBook} again, so it can be written later on another thread.
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath);
+
 }
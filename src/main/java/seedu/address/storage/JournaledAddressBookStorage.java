@@ -0,0 +1,483 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * An {@code AddressBookStorage} that keeps a json snapshot of the address book and an append-only journal of the
+ * changes made since that snapshot, so that the cost of a save is proportional to what changed rather than to the
+ * size of the address book.
+ *
+ * The first save of an address book writes a full snapshot (a checkpoint) and starts watching that address book for
+ * changes. Later saves append one compact json line per changed person or booking to the journal file, and a new
+ * checkpoint is written once the journal grows past the checkpoint interval. Reading loads the snapshot and replays
+ * the journal on top of it.
+ *
+ * Checkpoints are numbered, and a journal starts with a header naming the checkpoint it follows. A journal left over
+ * from an earlier checkpoint, such as when the app stops between writing a checkpoint and deleting the old journal, is
+ * therefore never replayed over a newer snapshot.
+ *
+ * Changes are captured on the thread that changes the address book, and a {@link PendingSave} from
+ * {@link #prepareSave(ReadOnlyAddressBook, Path)} may then be written from another thread.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int checkpointInterval;
+
+    // The address book being watched, and the keys of the persons and bookings changed since the last save
+    private ReadOnlyAddressBook trackedAddressBook;
+    private final ListMirror<Phone, Person> trackedPersons = new ListMirror<>(Person::getPhone);
+    private final ListMirror<Integer, Booking> trackedBookings = new ListMirror<>(Booking::getBookingId);
+    private final Set<Phone> changedPersons = new LinkedHashSet<>();
+    private final Set<Integer> changedBookings = new LinkedHashSet<>();
+    private final ListChangeListener<Person> personListener = this::onPersonsChanged;
+    private final ListChangeListener<Booking> bookingListener = this::onBookingsChanged;
+    private int journalSize = 0;
+    // The number of the latest checkpoint, which the journal on disk follows
+    private long checkpoint = 0;
+
+    // Captured but unwritten data; a pending checkpoint is written before the pending entries
+    private PendingSave pendingCheckpoint;
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private final Object writeLock = new Object();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes a new snapshot to {@code filePath} whenever the journal
+     * holds more than {@code checkpointInterval} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept for the address book snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but replays the journal kept next to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journal = getJournalFilePath(filePath);
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent() && !Files.exists(journal)) {
+            return Optional.empty();
+        }
+
+        Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        Map<Integer, JsonAdaptedBooking> bookings = new LinkedHashMap<>();
+        JournalReplay replay = new JournalReplay();
+        Long snapshotCheckpoint = null;
+        if (snapshot.isPresent()) {
+            snapshot.get().getPersons().forEach(person -> persons.put(person.getPhone(), person));
+            snapshot.get().getBookings().forEach(booking -> bookings.put(booking.getBookingId(), booking));
+            replay.nextBookingId = snapshot.get().getNextBookingId();
+            snapshotCheckpoint = snapshot.get().getCheckpoint();
+        }
+
+        replayJournal(journal, snapshotCheckpoint, persons, bookings, replay);
+        if (filePath.equals(getAddressBookFilePath())) {
+            synchronized (this) {
+                journalSize = replay.appliedCount;
+                checkpoint = Math.max(checkpoint, Math.max(snapshotCheckpoint == null ? 0 : snapshotCheckpoint,
+                        replay.journalCheckpoint == null ? 0 : replay.journalCheckpoint));
+            }
+        }
+
+        try {
+            return Optional.of(new JsonSerializableAddressBook(new ArrayList<>(persons.values()),
+                    new ArrayList<>(bookings.values()), replay.nextBookingId).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " and its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the entries in {@code journal} to {@code persons} and {@code bookings}, and records in {@code replay}
+     * how many were applied and the booking IDs they used.
+     * A truncated last line, left behind by an interrupted write, is ignored. So is the whole journal if it does not
+     * follow the checkpoint numbered {@code snapshotCheckpoint}.
+     */
+    private static void replayJournal(Path journal, Long snapshotCheckpoint, Map<String, JsonAdaptedPerson> persons,
+            Map<Integer, JsonAdaptedBooking> bookings, JournalReplay replay) throws DataLoadingException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading journal file " + journal + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry in journal file " + journal);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            boolean isFirstEntry = replay.journalCheckpoint == null && replay.appliedCount == 0;
+            if (isFirstEntry && entry.isHeader()) {
+                replay.journalCheckpoint = entry.getCheckpoint();
+                if (!entry.getCheckpoint().equals(snapshotCheckpoint)) {
+                    logger.warning("Ignoring journal file " + journal + " left over from checkpoint "
+                            + entry.getCheckpoint() + ", as the snapshot is checkpoint " + snapshotCheckpoint);
+                    return;
+                }
+                continue;
+            }
+            if (isFirstEntry && snapshotCheckpoint != null) {
+                // Only journals written before checkpoints were numbered lack a header, and none follow this snapshot
+                logger.warning("Ignoring journal file " + journal + " without a header, as the snapshot is checkpoint "
+                        + snapshotCheckpoint);
+                return;
+            }
+
+            if (entry.isPersonEntry()) {
+                if (entry.getPerson() == null) {
+                    persons.remove(entry.getPhone());
+                } else {
+                    persons.put(entry.getPhone(), entry.getPerson());
+                }
+            } else if (entry.isBookingEntry()) {
+                // Deleted bookings count too, as their IDs must not be handed out again
+                replay.advancePast(entry.getBookingId());
+                if (entry.getBooking() == null) {
+                    bookings.remove(entry.getBookingId());
+                } else {
+                    bookings.put(entry.getBookingId(), entry.getBooking());
+                }
+            } else {
+                throw new DataLoadingException(new IllegalValueException(
+                        JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY));
+            }
+            replay.appliedCount++;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. The journal is only used for the file at
+     * {@link #getAddressBookFilePath()}; saves to any other file write a full snapshot.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSave(addressBook, filePath).write();
+    }
+
+    /**
+     * Captures the changes made to {@code addressBook} since the last save as journal entries, or captures a full
+     * snapshot if a checkpoint is due. The returned save writes everything captured so far that has not been written.
+     */
+    @Override
+    public synchronized PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.prepareSave(addressBook, filePath);
+        }
+
+        int changeCount = changedPersons.size() + changedBookings.size();
+        if (addressBook != trackedAddressBook || journalSize + changeCount > checkpointInterval) {
+            logger.fine("Address book checkpoint due for " + getAddressBookFilePath());
+            if (trackedAddressBook == null) {
+                // A journal this storage has not read may follow a checkpoint numbered past the last one it knows of
+                checkpoint = Math.max(checkpoint, readJournalCheckpoint());
+            }
+            checkpoint++;
+            pendingCheckpoint = snapshotStorage.prepareSave(addressBook, filePath, checkpoint);
+            pendingEntries.clear();
+            journalSize = 0;
+            track(addressBook);
+        } else {
+            captureChanges();
+        }
+        return this::writePending;
+    }
+
+    /**
+     * Moves the changes made since the last save into {@code pendingEntries} as journal entry lines.
+     */
+    private void captureChanges() {
+        for (Phone phone : changedPersons) {
+            Person person = trackedPersons.get(phone);
+            pendingEntries.add(person == null
+                    ? JsonAdaptedJournalEntry.deletePerson(phone.value)
+                    : JsonAdaptedJournalEntry.putPerson(new JsonAdaptedPerson(person)));
+        }
+        for (Integer bookingId : changedBookings) {
+            Booking booking = trackedBookings.get(bookingId);
+            pendingEntries.add(booking == null
+                    ? JsonAdaptedJournalEntry.deleteBooking(bookingId)
+                    : JsonAdaptedJournalEntry.putBooking(new JsonAdaptedBooking(booking)));
+        }
+        journalSize += changedPersons.size() + changedBookings.size();
+        changedPersons.clear();
+        changedBookings.clear();
+    }
+
+    /**
+     * Writes the pending checkpoint, if any, and appends the pending entries to the journal.
+     * Anything that fails to be written stays pending and is retried by the next write. Entries only ever store the
+     * latest state of a person or booking, so appending an entry twice is harmless.
+     */
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            PendingSave checkpointSave;
+            long entriesCheckpoint;
+            List<JsonAdaptedJournalEntry> entries;
+            synchronized (this) {
+                checkpointSave = pendingCheckpoint;
+                entriesCheckpoint = checkpoint;
+                entries = new ArrayList<>(pendingEntries);
+            }
+
+            if (checkpointSave != null) {
+                // The checkpoint replaces the snapshot in one move, so the journal is only deleted once it is safe
+                checkpointSave.write();
+                Files.deleteIfExists(journalFilePath);
+            }
+            if (!entries.isEmpty()) {
+                appendToJournal(entries, entriesCheckpoint);
+            }
+
+            synchronized (this) {
+                // A checkpoint captured while writing replaces everything captured before it
+                if (pendingCheckpoint == checkpointSave) {
+                    pendingCheckpoint = null;
+                    pendingEntries.subList(0, entries.size()).clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal, starting a new journal with a header if there is none.
+     *
+     * @param entriesCheckpoint the number of the checkpoint that the entries follow.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries, long entriesCheckpoint) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.header(entriesCheckpoint))).append('\n');
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the number of the checkpoint named in the header of the journal, or 0 if there is no such header.
+     */
+    private long readJournalCheckpoint() {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String firstLine = reader.readLine();
+            if (firstLine == null) {
+                return 0;
+            }
+            JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalEntry.class);
+            return entry.isHeader() ? entry.getCheckpoint() : 0;
+        } catch (IOException e) {
+            logger.warning("Error reading the header of journal file " + journalFilePath + ": " + e);
+            return 0;
+        }
+    }
+
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedAddressBook != addressBook) {
+            if (trackedAddressBook != null) {
+                trackedAddressBook.getPersonList().removeListener(personListener);
+                trackedAddressBook.getBookingList().removeListener(bookingListener);
+            }
+            addressBook.getPersonList().addListener(personListener);
+            addressBook.getBookingList().addListener(bookingListener);
+            trackedAddressBook = addressBook;
+        }
+
+        trackedPersons.reset(addressBook.getPersonList());
+        trackedBookings.reset(addressBook.getBookingList());
+        changedPersons.clear();
+        changedBookings.clear();
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                trackedPersons.remove(removed);
+                changedPersons.add(removed.getPhone());
+            }
+            for (Person added : change.getAddedSubList()) {
+                trackedPersons.add(added);
+                changedPersons.add(added.getPhone());
+            }
+        }
+    }
+
+    /**
+     * Records changed bookings. The person who made a changed booking is recorded as changed too, since the booking
+     * IDs stored with that person change along with their bookings.
+     */
+    private synchronized void onBookingsChanged(ListChangeListener.Change<? extends Booking> change) {
+        while (change.next()) {
+            for (Booking removed : change.getRemoved()) {
+                trackedBookings.remove(removed);
+                changedBookings.add(removed.getBookingId());
+                recordBookingPersonChanged(removed);
+            }
+            for (Booking added : change.getAddedSubList()) {
+                trackedBookings.add(added);
+                changedBookings.add(added.getBookingId());
+                recordBookingPersonChanged(added);
+            }
+        }
+    }
+
+    private void recordBookingPersonChanged(Booking booking) {
+        Person person = booking.getBookingPerson();
+        if (person != null) {
+            changedPersons.add(person.getPhone());
+        }
+    }
+
+    /**
+     * The elements of a watched list by key, kept up to date from the list's change events.
+     *
+     * An element leaves the mirror only once every occurrence of its key has been removed from the list. A list may
+     * hold a key twice for a moment, such as when an element is moved into the slot of a removed one before its old
+     * slot is dropped, and the removal of the old slot must not count as a deletion.
+     */
+    private static class ListMirror<K, V> {
+        private final Function<V, K> keyOf;
+        private final Map<K, V> elements = new HashMap<>();
+        private final Map<K, Integer> occurrences = new HashMap<>();
+
+        private ListMirror(Function<V, K> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        private void reset(List<? extends V> list) {
+            elements.clear();
+            occurrences.clear();
+            list.forEach(this::add);
+        }
+
+        private void add(V element) {
+            K key = keyOf.apply(element);
+            elements.put(key, element);
+            occurrences.merge(key, 1, Integer::sum);
+        }
+
+        private void remove(V element) {
+            K key = keyOf.apply(element);
+            if (occurrences.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1) == null) {
+                elements.remove(key);
+            }
+        }
+
+        /**
+         * Returns the element with {@code key}, or null if it is no longer in the list.
+         */
+        private V get(K key) {
+            return elements.get(key);
+        }
+    }
+
+    /**
+     * What replaying a journal found, on top of its snapshot.
+     */
+    private static class JournalReplay {
+        private int appliedCount = 0;
+        private Integer nextBookingId;
+        private Long journalCheckpoint;
+
+        private void advancePast(int bookingId) {
+            nextBookingId = nextBookingId == null ? bookingId + 1 : Math.max(nextBookingId, bookingId + 1);
+        }
+    }
+}
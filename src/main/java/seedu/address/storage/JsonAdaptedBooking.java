@@ -54,6 +54,10 @@ class JsonAdaptedBooking {
         pax = source.getPax();
     }
 
+    Integer getBookingId() {
+        return bookingId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted booking object into the model's {@code Person} object.
      *
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of a single change in an address book journal.
+ * An entry either stores the latest state of one person or booking, or records that it was deleted. The first entry
+ * of a journal is instead a header naming the checkpoint that the journal follows.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry must refer to exactly one person or booking.";
+
+    private final String phone;
+    private final Integer bookingId;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedBooking booking;
+    private final Long checkpoint;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("phone") String phone,
+                                   @JsonProperty("bookingId") Integer bookingId,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("booking") JsonAdaptedBooking booking,
+                                   @JsonProperty("checkpoint") Long checkpoint) {
+        this.phone = phone;
+        this.bookingId = bookingId;
+        this.person = person;
+        this.booking = booking;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Returns a header for a journal of the changes made since checkpoint number {@code checkpoint}.
+     */
+    static JsonAdaptedJournalEntry header(long checkpoint) {
+        return new JsonAdaptedJournalEntry(null, null, null, null, checkpoint);
+    }
+
+    /**
+     * Returns an entry storing the latest state of {@code person}.
+     */
+    static JsonAdaptedJournalEntry putPerson(JsonAdaptedPerson person) {
+        return new JsonAdaptedJournalEntry(person.getPhone(), null, person, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person with {@code phone} was deleted.
+     */
+    static JsonAdaptedJournalEntry deletePerson(String phone) {
+        return new JsonAdaptedJournalEntry(phone, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry storing the latest state of {@code booking}.
+     */
+    static JsonAdaptedJournalEntry putBooking(JsonAdaptedBooking booking) {
+        return new JsonAdaptedJournalEntry(null, booking.getBookingId(), null, booking, null);
+    }
+
+    /**
+     * Returns an entry recording that the booking with {@code bookingId} was deleted.
+     */
+    static JsonAdaptedJournalEntry deleteBooking(int bookingId) {
+        return new JsonAdaptedJournalEntry(null, bookingId, null, null, null);
+    }
+
+    boolean isHeader() {
+        return checkpoint != null && phone == null && bookingId == null;
+    }
+
+    boolean isPersonEntry() {
+        return phone != null && bookingId == null && checkpoint == null;
+    }
+
+    boolean isBookingEntry() {
+        return bookingId != null && phone == null && checkpoint == null;
+    }
+
+    Long getCheckpoint() {
+        return checkpoint;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    Integer getBookingId() {
+        return bookingId;
+    }
+
+    /**
+     * Returns the stored person, or null if this entry records a deletion.
+     */
+    JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the stored booking, or null if this entry records a deletion.
+     */
+    JsonAdaptedBooking getBooking() {
+        return booking;
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.BookingIdSet;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -28,7 +29,7 @@ class JsonAdaptedPerson {
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final List<Integer> bookingIDs = new ArrayList<>();
+    private final int[] bookingIDs;
     private final boolean isMember;
 
     /**
@@ -38,7 +39,7 @@ class JsonAdaptedPerson {
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("isMember") boolean isMember,
-            @JsonProperty("bookingIds") List<Integer> bookingIDs) {
+            @JsonProperty("bookingIds") int[] bookingIDs) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -47,9 +48,7 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
-        if (bookingIDs != null) {
-            this.bookingIDs.addAll(bookingIDs);
-        }
+        this.bookingIDs = bookingIDs == null ? new int[0] : bookingIDs;
     }
 
     /**
@@ -63,10 +62,14 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .toList());
-        bookingIDs.addAll(source.getBookingIDs());
+        bookingIDs = source.getBookingIDs().toIntArray();
         isMember = source.getMemberStatus();
     }
 
+    String getPhone() {
+        return phone;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -110,7 +113,7 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Set<Integer> modelBookingIDs = new HashSet<>(bookingIDs);
+        final BookingIdSet modelBookingIDs = BookingIdSet.of(bookingIDs);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         if (isMember) {
@@ -3,7 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,6 +24,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -70,11 +75,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSave(addressBook, filePath).write();
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        return prepareSave(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook, Path)}, but stores {@code checkpoint} as the checkpoint
+     * number of the snapshot.
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath, Long checkpoint) {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook, checkpoint);
+        return () -> {
+            // The file is written in full beside the old one and then moved over it, so that a failed write, e.g.
+            // on a full disk, never leaves a truncated address book behind
+            FileUtil.createParentDirsOfFile(filePath);
+            Path tempFilePath = getTempFilePath(filePath);
+            try {
+                JsonUtil.saveJsonFile(data, tempFilePath);
+                moveReplacing(tempFilePath, filePath);
+            } catch (IOException e) {
+                try {
+                    Files.deleteIfExists(tempFilePath);
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Returns the path that the address book at {@code filePath} is written to before it is moved into place.
+     */
+    static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic moves are not supported for " + target + ", replacing it without one");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
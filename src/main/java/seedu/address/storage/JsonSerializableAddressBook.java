@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,8 +16,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.booking.Booking;
-import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.booking.BookingIdSequencer;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -23,18 +28,36 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_BOOKING = "Bookings list contains duplicate booking(s).";
+    public static final String MESSAGE_MISSING_BOOKING = "Person has booking id that does not exist in booking list";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedBooking> bookings = new ArrayList<>();
+    // Missing from files saved before it was stored, in which case it is worked out from the bookings
+    private final Integer nextBookingId;
+    // Numbers the checkpoints of a journaled address book; missing from files saved without a journal
+    private final Long checkpoint;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons and bookings.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, bookings and next booking ID.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedBooking> bookings,
+                                       Integer nextBookingId) {
+        this(persons, bookings, nextBookingId, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, bookings, next booking ID and
+     * checkpoint number.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("bookings") List<JsonAdaptedBooking> bookings) {
+                                       @JsonProperty("bookings") List<JsonAdaptedBooking> bookings,
+                                       @JsonProperty("nextBookingId") Integer nextBookingId,
+                                       @JsonProperty("checkpoint") Long checkpoint) {
         this.persons.addAll(persons);
         this.bookings.addAll(bookings);
+        this.nextBookingId = nextBookingId;
+        this.checkpoint = checkpoint;
     }
 
 
@@ -44,8 +67,36 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, as checkpoint number
+     * {@code checkpoint} of a journaled address book.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long checkpoint) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         bookings.addAll(source.getBookingList().stream().map(JsonAdaptedBooking::new).collect(Collectors.toList()));
+        nextBookingId = source.getNextBookingId();
+        this.checkpoint = checkpoint;
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedBooking> getBookings() {
+        return bookings;
+    }
+
+    Integer getNextBookingId() {
+        return nextBookingId;
+    }
+
+    Long getCheckpoint() {
+        return checkpoint;
     }
 
     /**
@@ -55,46 +106,51 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+
+        // Uniqueness is checked with hash sets in a single pass, and each list is handed to the
+        // address book in one bulk operation so that loading stays linear in the size of the data.
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Set<Phone> seenPhones = new HashSet<>(persons.size() * 2);
+        Map<Integer, Person> personsByBookingId = new HashMap<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (!seenPhones.add(person.getPhone())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
+            person.getBookingIDs().forEachId(bookingId -> personsByBookingId.put(bookingId, person));
         }
+        addressBook.setPersons(modelPersons);
         if (bookings.size() == 0) {
+            addressBook.setNextBookingId(
+                    nextBookingId == null ? BookingIdSequencer.FIRST_BOOKING_ID : nextBookingId);
             return addressBook;
         }
+
+        // Bookings are linked to their persons before they are added, and bookings without a person are dropped
+        List<Booking> modelBookings = new ArrayList<>(bookings.size());
+        Set<Integer> seenBookingIds = new HashSet<>(bookings.size() * 2);
+        int minNextBookingId = BookingIdSequencer.FIRST_BOOKING_ID;
         for (JsonAdaptedBooking jsonAdaptedBooking: bookings) {
             Booking booking = jsonAdaptedBooking.toModelType();
-            int bookingId = booking.getBookingId();
-            if (addressBook.hasBooking(bookingId)) {
-                System.out.println("Duplicate booking id: " + bookingId);
+            if (!seenBookingIds.add(booking.getBookingId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BOOKING);
             }
-            //System.out.println("Adding booking id: " + bookingId);
-            addressBook.addBooking(booking);
-        }
-        for (Person person : addressBook.getPersonList()) {
-            for (int bookingId : person.getBookingIDs()) {
-                if (!addressBook.hasBooking(bookingId)) {
-                    throw new IllegalValueException("Person has booking id that does not exist in booking list");
-                }
-                Booking booking = addressBook.getUniqueBookingList().getBooking(bookingId);
-                booking.setBookingPerson(person);
-            }
-        }
+            minNextBookingId = Math.max(minNextBookingId, booking.getBookingId() + 1);
 
-        UniqueBookingList bookingsList = addressBook.getUniqueBookingList();
-        List<Booking> bookingsToDelete = new ArrayList<>();
-        for (Booking booking : bookingsList) {
-            if (booking.getBookingPerson() == null) {
-                bookingsToDelete.add(booking);
+            Person bookingPerson = personsByBookingId.get(booking.getBookingId());
+            if (bookingPerson != null) {
+                booking.setBookingPerson(bookingPerson);
+                modelBookings.add(booking);
             }
         }
-        for (Booking booking : bookingsToDelete) {
-            addressBook.removeBooking(booking);
+        if (modelBookings.size() < personsByBookingId.size()) {
+            throw new IllegalValueException(MESSAGE_MISSING_BOOKING);
         }
+        addressBook.setBookings(modelBookings);
+        // A hand-edited file may hold bookings past the stored ID, which must never be handed out again
+        addressBook.setNextBookingId(nextBookingId == null
+                ? minNextBookingId : Math.max(nextBookingId, minNextBookingId));
         return addressBook;
     }
 
@@ -0,0 +1,18 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * An address book save whose data has already been captured, but which has not been written yet.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the captured data. Writing a {@code PendingSave} also writes every save prepared before it by the same
+     * storage, so a save that is superseded by a later one can be skipped.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+}
@@ -29,4 +29,25 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save requested so far has been written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reports a background save that failed since the last failure was reported, without waiting for pending saves.
+     *
+     * @throws IOException if such a save failed.
+     */
+    void checkFailedSave() throws IOException;
+
+    /**
+     * Writes every pending address book save and releases the resources used to write them in the background.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void close() throws IOException;
+
 }
@@ -3,16 +3,26 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * When saving in the background, {@link #saveAddressBook(ReadOnlyAddressBook)} only captures the data to be written
+ * and hands the write to a single writer thread. Saves requested while an earlier one is still waiting are merged
+ * into one write. A failed background write is reported by the next {@link #checkFailedSave()}, save or
+ * {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +30,37 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Null when address book saves are written on the calling thread
+    private final ExecutorService writer;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final AtomicReference<IOException> failedSave = new AtomicReference<>();
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * If {@code saveInBackground} is true, address book saves are written by a background thread until
+     * {@link #close()} is called.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean saveInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+
+        if (saveInBackground) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "address-book-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            writer = null;
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,9 +99,24 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves {@code addressBook} to the address book file. When saving in the background, this returns as soon as the
+     * data is captured.
+     *
+     * @throws IOException if this save, or an earlier background save, failed.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (writer == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        checkFailedSave();
+        PendingSave save = addressBookStorage.prepareSave(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (pendingSave.getAndSet(save) == null) {
+            writer.execute(this::writePendingSave);
+        }
     }
 
     @Override
@@ -75,4 +125,73 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBookStorage.prepareSave(addressBook, filePath);
+    }
+
+    /**
+     * Blocks until every address book save requested so far has been written.
+     *
+     * @throws IOException if a background save failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        // Everything was written when the writer was closed
+        if (writer != null && !writer.isShutdown()) {
+            try {
+                writer.submit(this::writePendingSave).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the address book to be saved", e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        checkFailedSave();
+    }
+
+    /**
+     * Writes the latest pending save, which also covers every save requested before it.
+     */
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        logger.fine("Writing to data file: " + getAddressBookFilePath());
+        try {
+            save.write();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failedSave.set(e);
+        }
+    }
+
+    @Override
+    public void checkFailedSave() throws IOException {
+        IOException failure = failedSave.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes every pending address book save and stops the background writer, if any. Saves must not be requested
+     * afterwards.
+     *
+     * @throws IOException if a background save failed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (writer != null) {
+                writer.shutdown();
+            }
+        }
+    }
+
 }
@@ -7,13 +7,17 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
 
 /**
  * An UI component that displays information of a {@code Booking}.
+ * A card can be reused for another booking with {@link #setBooking(Snapshot)}, so that list cells only load the
+ * card once. The card shows a {@link Snapshot} of the booking and is refreshed by its cell when the booking changes.
  */
 public class BookingCard extends UiPart<Region> {
     private static final String FXML = "BookingCard.fxml";
-    public final Booking booking;
+
+    private Snapshot booking;
 
     @FXML
     private Label bookingId;
@@ -36,30 +40,40 @@ public class BookingCard extends UiPart<Region> {
     @FXML
     private Label status;
 
+    /**
+     * Creates an empty {@code BookingCard}.
+     */
+    public BookingCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code BookingCode} with the given {@code Booking} to display.
      */
     public BookingCard(Booking booking) {
-        super(FXML);
-        this.booking = booking;
+        this();
+        setBooking(Snapshot.of(booking));
+    }
 
-        bookingId.setText("ID: " + booking.getBookingId());
+    public Snapshot getBooking() {
+        return booking;
+    }
 
-        if (booking.getBookingPerson() != null) {
-            bookingPerson.setText(booking.getBookingPerson().getName().fullName);
-            phoneNumber.setText(booking.getBookingPerson().getPhone().value);
-        } else {
-            bookingPerson.setText("No Person");
-            phoneNumber.setText("No Phone");
-        }
+    /**
+     * Displays {@code booking} on this card in place of the booking shown before.
+     */
+    public void setBooking(Snapshot booking) {
+        this.booking = booking;
 
-        bookingDate.setText(formatDateTime(booking.getBookingDateTime()));
-        pax.setText(booking.getPax() + " pax");
-        remarks.setText(booking.getRemarks());
-        status.textProperty().bind(booking.getStatusProperty());
-        booking.getStatusProperty().addListener((observable, oldValue,
-                                                 newValue) -> updateStatusColor(newValue.toString()));
-        updateStatusColor(booking.getStatus().toString());
+        bookingId.setText("ID: " + booking.bookingId);
+        bookingPerson.setText(booking.personName);
+        phoneNumber.setText(booking.phone);
+        bookingDate.setText(formatDateTime(booking.dateTime));
+        pax.setText(booking.pax + " pax");
+        remarks.setText(booking.remarks);
+        // Status changes are made off the JavaFX thread and reach the card as list updates, so it is not bound
+        status.setText(booking.status.toString());
+        updateStatusColor(booking.status.toString());
     }
 
     private String formatDateTime(LocalDateTime dateTime) {
@@ -93,4 +107,45 @@ public class BookingCard extends UiPart<Region> {
             status.setStyle(baseStyle + " -fx-text-fill: #E0E0E0;");
         }
     }
+
+    /**
+     * The details of a {@code Booking} that a {@code BookingCard} shows, as they were when the snapshot was taken.
+     * Bookings are changed by commands off the JavaFX thread, so cards show snapshots taken on the command thread
+     * instead of reading the bookings themselves.
+     */
+    public static class Snapshot {
+        private final int bookingId;
+        private final String personName;
+        private final String phone;
+        private final LocalDateTime dateTime;
+        private final int pax;
+        private final String remarks;
+        private final Status status;
+
+        private Snapshot(Booking booking) {
+            bookingId = booking.getBookingId();
+            if (booking.getBookingPerson() != null) {
+                personName = booking.getBookingPerson().getName().fullName;
+                phone = booking.getBookingPerson().getPhone().value;
+            } else {
+                personName = "No Person";
+                phone = "No Phone";
+            }
+            dateTime = booking.getBookingDateTime();
+            pax = booking.getPax();
+            remarks = booking.getRemarks();
+            status = booking.getStatus();
+        }
+
+        /**
+         * Returns a snapshot of {@code booking}. Must be called while {@code booking} is not being changed.
+         */
+        public static Snapshot of(Booking booking) {
+            return new Snapshot(booking);
+        }
+
+        public int getBookingId() {
+            return bookingId;
+        }
+    }
 }
@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -9,47 +14,81 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of bookings.
+ *
+ * The panel is created once and follows {@code bookingList} as it changes. Booking cards also show the details of
+ * the person who made the booking, so a change in the persons of {@code addressBook} redraws only the cards of that
+ * person. Both may change on any thread that has the address book to itself; cards show snapshots taken on that
+ * thread, so the JavaFX thread never waits for the address book. {@code isFiltered} must only change on the JavaFX
+ * thread.
  */
 
 public class BookingListPanel extends UiPart<Region> {
     private static final String FXML = "BookingListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(BookingListPanel.class);
 
+    private final AddressBook addressBook;
+    private final FxThreadListMirror<Booking, BookingCard.Snapshot> shownBookings;
+
     @FXML
     private Label filteredLabel;
 
     @FXML
-    private ListView<Booking> bookingListView;
+    private ListView<BookingCard.Snapshot> bookingListView;
 
     /**
      * Creates a {@code BookingListPanel} with the given {@code ObservableList}.
      */
-    public BookingListPanel(ObservableList<Booking> bookingList, boolean isFiltered) {
+    public BookingListPanel(ObservableList<Booking> bookingList, AddressBook addressBook,
+                            ObservableBooleanValue isFiltered) {
         super(FXML);
-        bookingListView.setItems(bookingList);
-        bookingListView.setCellFactory(listView -> new BookingListViewCell());
+        this.addressBook = addressBook;
+        shownBookings = new FxThreadListMirror<>(bookingList, BookingCard.Snapshot::of);
+        bookingListView.setItems(shownBookings.getList());
+        bookingListView.setCellFactory(listView -> new BookingListViewCell(BookingCard::new));
+        addressBook.getPersonList().addListener(this::onPersonsChanged);
+
+        filteredLabel.visibleProperty().bind(isFiltered);
+    }
 
-        filteredLabel.setVisible(isFiltered);
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        // Bookings of a removed person are either removed with them or moved to the person who replaces them
+        Map<Integer, BookingCard.Snapshot> changedBookings = new HashMap<>();
+        while (change.next()) {
+            for (Person person : change.getAddedSubList()) {
+                for (Booking booking : addressBook.getBookingsOf(person.getPhone())) {
+                    changedBookings.put(booking.getBookingId(), BookingCard.Snapshot.of(booking));
+                }
+            }
+        }
+        shownBookings.replace(BookingCard.Snapshot::getBookingId, changedBookings);
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Booking} using a {@code BookingCard}.
      */
-    class BookingListViewCell extends ListCell<Booking> {
+    static class BookingListViewCell extends ListCell<BookingCard.Snapshot> {
+        private final CardSlot<BookingCard.Snapshot, BookingCard> cardSlot;
+
+        /**
+         * Creates a cell that shows its bookings on a single card made by {@code cardFactory}.
+         */
+        BookingListViewCell(Supplier<BookingCard> cardFactory) {
+            cardSlot = new CardSlot<>(cardFactory, BookingCard::setBooking);
+        }
+
         @Override
-        protected void updateItem(Booking booking, boolean empty) {
+        protected void updateItem(BookingCard.Snapshot booking, boolean empty) {
             super.updateItem(booking, empty);
 
-            if (empty || booking == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new BookingCard(booking).getRoot());
-            }
+            BookingCard card = cardSlot.show(booking, empty);
+            setText(null);
+            setGraphic(card == null ? null : card.getRoot());
         }
     }
 }
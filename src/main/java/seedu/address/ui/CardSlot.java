@@ -0,0 +1,49 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * The card that a single list cell shows its items on.
+ *
+ * The card is created the first time the cell shows an item and reused for every item after that, so scrolling
+ * through a long list never loads FXML again. It is kept apart from the cell, which is a JavaFX control, so that the
+ * reuse can be checked without the JavaFX toolkit.
+ *
+ * @param <T> the type of the items shown.
+ * @param <C> the type of the card.
+ */
+class CardSlot<T, C> {
+
+    private final Supplier<? extends C> cardFactory;
+    private final BiConsumer<? super C, ? super T> showOnCard;
+    private C card;
+
+    /**
+     * Creates an empty slot whose card is made by {@code cardFactory} and shows items through {@code showOnCard}.
+     */
+    CardSlot(Supplier<? extends C> cardFactory, BiConsumer<? super C, ? super T> showOnCard) {
+        requireNonNull(cardFactory);
+        requireNonNull(showOnCard);
+        this.cardFactory = cardFactory;
+        this.showOnCard = showOnCard;
+    }
+
+    /**
+     * Shows {@code item} on the card, creating the card if this slot has none yet, and returns the card.
+     * Returns null, and leaves the card as it is, if the cell is {@code empty}.
+     * Meant to be called from {@code ListCell#updateItem(Object, boolean)}.
+     */
+    C show(T item, boolean empty) {
+        if (empty || item == null) {
+            return null;
+        }
+        if (card == null) {
+            card = cardFactory.get();
+        }
+        showOnCard.accept(card, item);
+        return card;
+    }
+}
@@ -1,34 +1,67 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * While a phone number or name is being typed after {@code p/} or {@code n/}, the persons it could belong to are
+ * suggested below the box. Suggestions are looked up once typing pauses, rather than on every keystroke.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int SUGGESTION_LIMIT = 5;
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration SUGGESTION_DELAY = Duration.millis(150);
+
+    // A phone number or name at the end of the command text, which is what the user is typing
+    private static final Pattern PHONE_BEING_TYPED =
+            Pattern.compile("(?:^|\\s)" + PREFIX_PHONE.getPrefix() + "(\\d+)$");
+    private static final Pattern NAME_BEING_TYPED =
+            Pattern.compile("(?:^|\\s)" + PREFIX_NAME.getPrefix() + "\\s*([^\\s/][^/]*)$");
 
     private final CommandExecutor commandExecutor;
+    private final PersonSuggester personSuggester;
+    private final PauseTransition suggestionDelay = new PauseTransition(SUGGESTION_DELAY);
+    private final ContextMenu suggestionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code PersonSuggester}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, PersonSuggester personSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.personSuggester = personSuggester;
+        suggestionDelay.setOnFinished(unused -> showSuggestions());
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            suggestionDelay.playFromStart();
+        });
     }
 
     /**
@@ -40,13 +73,68 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        suggestionDelay.stop();
+        suggestionMenu.hide();
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            // The user may have started typing the next command while this one ran
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Suggests the persons whose phone number or name starts with what is being typed, if anything.
+     */
+    private void showSuggestions() {
+        String commandText = commandTextField.getText();
+        Matcher phoneMatcher = PHONE_BEING_TYPED.matcher(commandText);
+        Matcher nameMatcher = NAME_BEING_TYPED.matcher(commandText);
+        Prefix field;
+        Matcher matcher;
+        if (phoneMatcher.find()) {
+            field = PREFIX_PHONE;
+            matcher = phoneMatcher;
+        } else if (nameMatcher.find()) {
+            field = PREFIX_NAME;
+            matcher = nameMatcher;
+        } else {
+            suggestionMenu.hide();
+            return;
+        }
+
+        String typedValue = matcher.group(1);
+        String textBeforeValue = commandText.substring(0, matcher.start(1));
+        List<Person> persons = personSuggester.suggest(field, typedValue, SUGGESTION_LIMIT);
+        // Nothing to suggest once the value has been typed or picked in full
+        if (persons.isEmpty() || persons.size() == 1 && valueOf(persons.get(0), field).equalsIgnoreCase(typedValue)) {
+            suggestionMenu.hide();
+            return;
         }
+
+        List<MenuItem> suggestions = new ArrayList<>();
+        for (Person person : persons) {
+            MenuItem suggestion = new MenuItem(person.getName().fullName + "  " + person.getPhone().value);
+            suggestion.setOnAction(unused -> {
+                commandTextField.setText(textBeforeValue + valueOf(person, field));
+                commandTextField.end();
+            });
+            suggestions.add(suggestion);
+        }
+        suggestionMenu.getItems().setAll(suggestions);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private static String valueOf(Person person, Prefix field) {
+        return field.equals(PREFIX_PHONE) ? person.getPhone().value : person.getName().fullName;
     }
 
     /**
@@ -75,11 +163,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future of the result, which completes on the JavaFX thread.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that looks up persons by the start of a field as it is typed.
+     */
+    @FunctionalInterface
+    public interface PersonSuggester {
+        /**
+         * Returns up to {@code limit} persons whose phone number or name, as given by {@code field}, starts with
+         * {@code valuePrefix}.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getPersonsWithPhonePrefix(String, int)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<Person> suggest(Prefix field, String valuePrefix, int limit);
     }
 
 }
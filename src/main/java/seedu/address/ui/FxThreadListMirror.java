@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList}, made of snapshots of its elements, that is only changed on the JavaFX
+ * application thread.
+ *
+ * Commands change the model on a background thread, so views cannot observe the model's lists directly. Each change
+ * to the source list is copied on the thread that made it and replayed on the copy, in order, through
+ * {@link Platform#runLater(Runnable)}. Replaying a change touches only the affected range of the copy, so views
+ * bound to it still update only the affected cells.
+ *
+ * Elements are snapshotted on the thread that changes the source, while it still has the model to itself, so views
+ * can render the copy without locking the model.
+ */
+class FxThreadListMirror<S, T> {
+
+    private final Function<? super S, ? extends T> snapshot;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    /**
+     * Creates a mirror of {@code source} that holds {@code snapshot} of each of its elements. Must be called on the
+     * JavaFX application thread, while {@code source} is not being changed.
+     */
+    FxThreadListMirror(ObservableList<? extends S> source, Function<? super S, ? extends T> snapshot) {
+        this.snapshot = snapshot;
+        mirror = FXCollections.observableArrayList(snapshotAll(source));
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the mirrored list as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Replaces each snapshot in the copy whose {@code keyOf} is a key of {@code replacements} with the snapshot mapped
+     * to that key. This is for snapshots that depend on more than their source element, so that a change elsewhere
+     * does not show up as a change of the source list. Must be called on the thread that changes the source, so that
+     * it is replayed in order with the changes of the source.
+     */
+    <K> void replace(Function<? super T, ? extends K> keyOf, Map<K, ? extends T> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        Platform.runLater(() -> {
+            for (int i = 0; i < mirror.size(); i++) {
+                T replacement = replacements.get(keyOf.apply(mirror.get(i)));
+                if (replacement != null) {
+                    mirror.set(i, replacement);
+                }
+            }
+        });
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends S> change) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> permuted = snapshotAll(change.getList().subList(from, change.getTo()));
+                steps.add(() -> {
+                    mirror.subList(from, from + permuted.size()).clear();
+                    mirror.addAll(from, permuted);
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = snapshotAll(change.getAddedSubList());
+                steps.add(() -> {
+                    if (removedSize > 0) {
+                        mirror.subList(from, from + removedSize).clear();
+                    }
+                    if (!added.isEmpty()) {
+                        mirror.addAll(from, added);
+                    }
+                });
+            }
+        }
+        Platform.runLater(() -> steps.forEach(Runnable::run));
+    }
+
+    private List<T> snapshotAll(List<? extends S> elements) {
+        List<T> snapshots = new ArrayList<>(elements.size());
+        for (S element : elements) {
+            snapshots.add(snapshot.apply(element));
+        }
+        return snapshots;
+    }
+}
@@ -1,9 +1,17 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_BOOKINGS;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -18,9 +26,11 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -120,42 +130,31 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         AddressBook addressBook = (AddressBook) logic.getAddressBook();
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), addressBook.getUniqueBookingList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-        resultDisplay = new ResultDisplay();
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-        CommandBox commandBox = new CommandBox(this::executeCommand);
-        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
-
         LogicManager logicManager = (LogicManager) logic;
         ModelManager modelManager = (ModelManager) logicManager.getModel();
         modelManager.updateFilteredBookingList(PREDICATE_SHOW_UPCOMING_BOOKINGS);
 
-        refreshBookingListPanel();
-        refreshPersonListPanel();
-    }
+        // The panels follow the model's lists, so they are created once and never rebuilt. Commands change the model
+        // on the command thread, so the panels show snapshots of the lists that are kept up to date on this thread.
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), addressBook);
+        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-    private void refreshBookingListPanel() {
-        LogicManager logicManager = (LogicManager) logic;
-        ModelManager modelManager = (ModelManager) logicManager.getModel();
+        BooleanProperty isBookingListFiltered =
+                new SimpleBooleanProperty(modelManager.bookingListFilteredProperty().get());
+        modelManager.bookingListFilteredProperty().addListener((observable, oldValue, newValue) ->
+                Platform.runLater(() -> isBookingListFiltered.set(newValue)));
+        bookingListPanel = new BookingListPanel(modelManager.getFilteredBookingList(), addressBook,
+                isBookingListFiltered);
+        bookingListPanelPlaceholder.getChildren().add(bookingListPanel.getRoot());
 
-        boolean isFiltered = modelManager.isBookingListFiltered();
+        resultDisplay = new ResultDisplay();
+        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        // Reinitialize BookingListPanel to refresh UI
-        bookingListPanel = new BookingListPanel(modelManager.getFilteredBookingList(), isFiltered);
-        bookingListPanelPlaceholder.getChildren().clear();
-        bookingListPanelPlaceholder.getChildren().add(bookingListPanel.getRoot());
-    }
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-    private void refreshPersonListPanel() {
-        AddressBook addressBook = (AddressBook) logic.getAddressBook();
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), addressBook.getUniqueBookingList());
-        personListPanelPlaceholder.getChildren().clear();
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::suggestPersons);
+        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
     /**
@@ -203,31 +202,56 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Returns up to {@code limit} persons whose phone number or name, as given by {@code field}, starts with
+     * {@code valuePrefix}.
+     */
+    private List<Person> suggestPersons(Prefix field, String valuePrefix, int limit) {
+        return field.equals(PREFIX_PHONE)
+                ? logic.getPersonsWithPhonePrefix(valuePrefix, limit)
+                : logic.getPersonsWithNamePrefix(valuePrefix, limit);
+    }
+
+    /**
+     * Starts executing the command off the JavaFX thread, and shows the result on this thread once it is done.
+     * The returned future completes on the JavaFX thread after the result is shown.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            refreshBookingListPanel();
-            refreshPersonListPanel();
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                showCommandResult(commandResult);
+                shownResult.complete(commandResult);
+            } else {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                showCommandFailure(commandText, cause);
+                shownResult.completeExceptionally(cause);
             }
+        }));
+        return shownResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void showCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void showCommandFailure(String commandText, Throwable cause) {
+        if (cause instanceof CommandException || cause instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+        } else {
+            logger.log(Level.SEVERE, "Unexpected error while executing command: " + commandText, cause);
+            resultDisplay.setFeedbackToUser(cause.toString());
         }
     }
 }
@@ -5,6 +5,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -17,6 +18,7 @@ import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Status;
 import seedu.address.model.booking.UniqueBookingList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * A UI component that displays information of a {@code Person}.
@@ -33,7 +35,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Snapshot person;
 
     @FXML
     private HBox cardPane;
@@ -57,22 +59,39 @@ public class PersonCard extends UiPart<Region> {
     private VBox bookingTagPane;
 
 
+    /**
+     * Creates an empty {@code PersonCard}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex, UniqueBookingList bookings) {
-        super(FXML);
+        this();
+        setPerson(Snapshot.of(person, bookings), displayedIndex);
+    }
+
+    public Snapshot getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} and their upcoming bookings on this card, in place of the person shown before.
+     */
+    public void setPerson(Snapshot person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-
-        if (person.getMemberStatus()) {
+        name.setText(person.name);
+        phone.setText(person.phone.value);
+        address.setText(person.address);
+        email.setText(person.email);
+        tags.getChildren().clear();
+        person.tagNames.forEach(tagName -> tags.getChildren().add(new Label(tagName)));
+
+        if (person.isMember) {
             memberLabel.setText("MEMBER");
             memberLabel.setVisible(true);
             HBox.setMargin(memberLabel, new Insets(0, 0, 0, 4));
@@ -80,38 +99,28 @@ public class PersonCard extends UiPart<Region> {
             memberLabel.setVisible(false);
         }
 
-        List<Booking> upcomingBookings = new ArrayList<>();
-        for (Integer bookingId : person.getBookingIDs()) {
-            Booking booking = bookings.getBooking(bookingId);
-            if (booking != null && booking.getStatus() == Status.UPCOMING) {
-                upcomingBookings.add(booking);
-            }
-        }
-        upcomingBookings.sort(Comparator.comparing(Booking::getBookingDateTime));
-
-        bookingCount.setText("Upcoming Bookings:  " + upcomingBookings.size());
-
-        for (Booking booking : upcomingBookings) {
-            if (booking != null && booking.getStatus() == Status.UPCOMING) {
-                HBox bookingDetails = new HBox();
-                bookingDetails.setSpacing(5);
+        bookingCount.setText("Upcoming Bookings:  " + person.upcomingBookings.size());
+        bookingTagPane.getChildren().clear();
 
-                Label dateTimeLabel = new Label(formatDateTime(booking.getBookingDateTime()));
-                dateTimeLabel.getStyleClass().add("yellow-tag");
-                bookingDetails.getChildren().add(dateTimeLabel);
+        for (UpcomingBooking booking : person.upcomingBookings) {
+            HBox bookingDetails = new HBox();
+            bookingDetails.setSpacing(5);
 
-                Label paxLabel = new Label(booking.getPax() + " pax");
-                paxLabel.getStyleClass().add("purple-tag");
-                bookingDetails.getChildren().add(paxLabel);
+            Label dateTimeLabel = new Label(formatDateTime(booking.dateTime));
+            dateTimeLabel.getStyleClass().add("yellow-tag");
+            bookingDetails.getChildren().add(dateTimeLabel);
 
-                if (!booking.getRemarks().isEmpty()) {
-                    Label remarkLabel = new Label(booking.getRemarks());
-                    remarkLabel.getStyleClass().add("green-tag");
-                    bookingDetails.getChildren().add(remarkLabel);
-                }
+            Label paxLabel = new Label(booking.pax + " pax");
+            paxLabel.getStyleClass().add("purple-tag");
+            bookingDetails.getChildren().add(paxLabel);
 
-                bookingTagPane.getChildren().add(bookingDetails);
+            if (!booking.remarks.isEmpty()) {
+                Label remarkLabel = new Label(booking.remarks);
+                remarkLabel.getStyleClass().add("green-tag");
+                bookingDetails.getChildren().add(remarkLabel);
             }
+
+            bookingTagPane.getChildren().add(bookingDetails);
         }
 
     }
@@ -120,4 +129,65 @@ public class PersonCard extends UiPart<Region> {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a, dd MMM yyyy");
         return dateTime.format(formatter);
     }
+
+    /**
+     * The details of a {@code Person} and their upcoming bookings that a {@code PersonCard} shows, as they were when
+     * the snapshot was taken. Persons and bookings are changed by commands off the JavaFX thread, so cards show
+     * snapshots taken on the command thread instead of reading them themselves.
+     */
+    public static class Snapshot {
+        private final Phone phone;
+        private final String name;
+        private final String address;
+        private final String email;
+        private final List<String> tagNames;
+        private final boolean isMember;
+        private final List<UpcomingBooking> upcomingBookings = new ArrayList<>();
+
+        private Snapshot(Person person, UniqueBookingList bookings) {
+            phone = person.getPhone();
+            name = person.getName().fullName;
+            address = person.getAddress().value;
+            email = person.getEmail().value;
+            tagNames = person.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted()
+                    .collect(Collectors.toList());
+            isMember = person.getMemberStatus();
+
+            List<Booking> upcoming = new ArrayList<>();
+            person.getBookingIDs().forEachId(bookingId -> {
+                Booking booking = bookings.getBooking(bookingId);
+                if (booking != null && booking.getStatus() == Status.UPCOMING) {
+                    upcoming.add(booking);
+                }
+            });
+            upcoming.sort(Comparator.comparing(Booking::getBookingDateTime));
+            upcoming.forEach(booking -> upcomingBookings.add(new UpcomingBooking(booking)));
+        }
+
+        /**
+         * Returns a snapshot of {@code person} and their upcoming bookings in {@code bookings}. Must be called while
+         * neither is being changed.
+         */
+        public static Snapshot of(Person person, UniqueBookingList bookings) {
+            return new Snapshot(person, bookings);
+        }
+
+        public Phone getPhone() {
+            return phone;
+        }
+    }
+
+    private static class UpcomingBooking {
+        private final LocalDateTime dateTime;
+        private final int pax;
+        private final String remarks;
+
+        UpcomingBooking(Booking booking) {
+            dateTime = booking.getBookingDateTime();
+            pax = booking.getPax();
+            remarks = booking.getRemarks();
+        }
+    }
 }
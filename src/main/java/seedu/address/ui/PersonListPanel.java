@@ -1,51 +1,97 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * Panel containing the list of persons.
+ *
+ * The panel is created once and follows {@code personList} as it changes. Person cards also show the upcoming
+ * bookings of the person, so a change in the bookings of {@code addressBook} redraws only the cards of the persons
+ * who made the changed bookings. Both may change on any thread that has the address book to itself; cards show
+ * snapshots taken on that thread, so the JavaFX thread never waits for the address book.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
-    private final UniqueBookingList bookings;
+    private final AddressBook addressBook;
+    private final FxThreadListMirror<Person, PersonCard.Snapshot> shownPersons;
 
     @FXML
-    private ListView<Person> personListView;
+    private ListView<PersonCard.Snapshot> personListView;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
-    public PersonListPanel(ObservableList<Person> personList, UniqueBookingList bookings) {
+    public PersonListPanel(ObservableList<Person> personList, AddressBook addressBook) {
         super(FXML);
-        this.bookings = bookings;
-        personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        this.addressBook = addressBook;
+        shownPersons = new FxThreadListMirror<>(personList,
+                person -> PersonCard.Snapshot.of(person, addressBook.getUniqueBookingList()));
+        personListView.setItems(shownPersons.getList());
+        personListView.setCellFactory(listView -> new PersonListViewCell(PersonCard::new));
+        addressBook.getBookingList().addListener(this::onBookingsChanged);
+    }
+
+    private void onBookingsChanged(ListChangeListener.Change<? extends Booking> change) {
+        Map<Phone, PersonCard.Snapshot> changedPersons = new HashMap<>();
+        while (change.next()) {
+            for (Booking booking : change.getRemoved()) {
+                snapshotBookingPerson(booking, changedPersons);
+            }
+            for (Booking booking : change.getAddedSubList()) {
+                snapshotBookingPerson(booking, changedPersons);
+            }
+        }
+        shownPersons.replace(PersonCard.Snapshot::getPhone, changedPersons);
+    }
+
+    private void snapshotBookingPerson(Booking booking, Map<Phone, PersonCard.Snapshot> snapshots) {
+        if (booking.getBookingPerson() == null) {
+            return;
+        }
+        // The person on the booking may be one that was since edited or deleted
+        Person person = addressBook.getPersonByPhone(booking.getBookingPerson().getPhone());
+        if (person != null) {
+            snapshots.computeIfAbsent(person.getPhone(),
+                    phone -> PersonCard.Snapshot.of(person, addressBook.getUniqueBookingList()));
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
-    class PersonListViewCell extends ListCell<Person> {
+    static class PersonListViewCell extends ListCell<PersonCard.Snapshot> {
+        private final CardSlot<PersonCard.Snapshot, PersonCard> cardSlot;
+
+        /**
+         * Creates a cell that shows its persons on a single card made by {@code cardFactory}.
+         */
+        PersonListViewCell(Supplier<PersonCard> cardFactory) {
+            cardSlot = new CardSlot<>(cardFactory, (card, person) -> card.setPerson(person, getIndex() + 1));
+        }
+
         @Override
-        protected void updateItem(Person person, boolean empty) {
+        protected void updateItem(PersonCard.Snapshot person, boolean empty) {
             super.updateItem(person, empty);
 
-            if (empty || person == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, bookings).getRoot());
-            }
+            PersonCard card = cardSlot.show(person, empty);
+            setText(null);
+            setGraphic(card == null ? null : card.getRoot());
         }
     }
 
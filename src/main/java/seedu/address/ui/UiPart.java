@@ -2,10 +2,15 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
+import javafx.fxml.JavaFXBuilderFactory;
 import seedu.address.MainApp;
 
 /**
@@ -17,6 +22,13 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    // Contents of each FXML document read so far, by URL, so that a document is read from its resource only once
+    private static final Map<String, byte[]> fxmlTemplates = new ConcurrentHashMap<>();
+
+    // Shared so that the builder lookups it caches for each class are done once rather than once per UiPart.
+    // Not thread-safe, like the rest of the scene graph; UiParts are created on the JavaFX application thread.
+    private static final JavaFXBuilderFactory builderFactory = new JavaFXBuilderFactory();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -66,15 +78,31 @@ public abstract class UiPart<T> {
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
         fxmlLoader.setLocation(location);
+        fxmlLoader.setBuilderFactory(builderFactory);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream template = new ByteArrayInputStream(getFxmlTemplate(location))) {
+            fxmlLoader.load(template);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only the first time.
+     */
+    private static byte[] getFxmlTemplate(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] template = fxmlTemplates.get(key);
+        if (template == null) {
+            try (InputStream in = location.openStream()) {
+                template = in.readAllBytes();
+            }
+            fxmlTemplates.put(key, template);
+        }
+        return template;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
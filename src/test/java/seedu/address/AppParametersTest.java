@@ -39,10 +39,34 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validServerPort_success() {
+        parametersStub.namedParameters.put("server-port", "8080");
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidServerPort_guiStarted() {
+        parametersStub.namedParameters.put("server-port", "port");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("server-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_namedParametersRead() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setServerPort(0);
+        assertEquals(expected, AppParameters.parse("--config=config.json", "unnamed", "--server-port=0", "--=x"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", serverPort=" + appParameters.getServerPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -1,11 +1,18 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
@@ -17,6 +24,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +49,57 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_singleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        Path jsonFile = testFolder.resolve("compact.json");
+
+        JsonUtil.serializeObjectToJsonFile(jsonFile, serializableTestClass, true);
+
+        String json = FileUtil.readFromFile(jsonFile);
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+        assertEquals(SerializableTestClass.getNameTestValue(),
+                JsonUtil.deserializeObjectFromJsonFile(jsonFile, SerializableTestClass.class).getName());
+    }
+
+    /**
+     * Compares the heap allocated by streaming a large document to a file against building it as a string first.
+     * The streamed write should allocate less than the size of the document, while the string write needs several
+     * copies of it.
+     */
+    @Test
+    public void serializeObjectToJsonFile_largeDocument_allocatesLessThanDocument() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        List<String> document = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            document.add("Booking remark number " + i);
+        }
+        Path jsonFile = testFolder.resolve("large.json");
+        // Warm up so that class loading is not counted
+        JsonUtil.serializeObjectToJsonFile(jsonFile, document.subList(0, 10));
+        FileUtil.writeToFile(jsonFile, JsonUtil.toJsonString(document.subList(0, 10)));
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        JsonUtil.serializeObjectToJsonFile(jsonFile, document);
+        long streamedBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+        long documentSize = Files.size(jsonFile);
+
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        FileUtil.writeToFile(jsonFile, JsonUtil.toJsonString(document));
+        long stringBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(streamedBytes < documentSize,
+                "streamed " + streamedBytes + " bytes for a document of " + documentSize + " bytes");
+        assertTrue(streamedBytes < stringBytes,
+                "streamed " + streamedBytes + " bytes, string " + stringBytes + " bytes");
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.TodayCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.QueryModel;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Drives commands and queries on several threads at once, and checks that every query sees the address book as it
+ * was between two commands.
+ */
+public class LogicManagerConcurrencyTest {
+
+    private static final int PERSON_COUNT = 10;
+    private static final int WRITE_COUNT = 600;
+    private static final int READER_COUNT = 4;
+    // Each reader runs a fixed number of checks, paced to overlap the writes, however fast the machine is
+    private static final int CHECKS_PER_READER = 100;
+    private static final long PAUSE_BETWEEN_CHECKS_MILLIS = 2;
+    private static final LocalDate BOOKING_DATE = LocalDate.of(2030, 1, 1);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_concurrentQueries_seeConsistentAddressBook() throws Exception {
+        Model model = new ModelManager();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            model.addPerson(new PersonBuilder().withPhone(getPhone(i)).build());
+        }
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(model, storage);
+
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger queryCount = new AtomicInteger();
+        ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.execute(() -> {
+                for (int check = 0; check < CHECKS_PER_READER; check++) {
+                    try {
+                        checkSnapshot(logic);
+                        queryCount.incrementAndGet();
+                        Thread.sleep(PAUSE_BETWEEN_CHECKS_MILLIS);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                        return;
+                    }
+                }
+            });
+        }
+
+        try {
+            int expectedBookingCount = 0;
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                List<Booking> bookings = model.getAddressBook().getBookingList();
+                if (i % 4 == 3) {
+                    logic.execute("bdelete " + bookings.get(0).getBookingId());
+                    expectedBookingCount--;
+                } else if (i % 4 == 2) {
+                    int bookingId = bookings.get(bookings.size() - 1).getBookingId();
+                    logic.execute("mark b/" + bookingId + " s/" + Status.values()[i % Status.values().length]);
+                } else {
+                    logic.execute("badd d/2030-01-01 " + (1 + i % 12) + ":00 PM p/" + getPhone(i % PERSON_COUNT)
+                            + " x/2");
+                    expectedBookingCount++;
+                }
+            }
+            assertEquals(expectedBookingCount, model.getAddressBook().getBookingList().size());
+        } finally {
+            readers.shutdown();
+            assertTrue(readers.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError("A query saw an inconsistent address book", failures.peek());
+        }
+        assertEquals(READER_COUNT * CHECKS_PER_READER, queryCount.get());
+    }
+
+    /**
+     * Runs {@code today} and {@code filter} queries under the read lock, and checks that they agree with each other
+     * and with the links between persons and bookings.
+     */
+    private static void checkSnapshot(Logic logic) throws Exception {
+        Lock readLock = logic.getAddressBookLock().readLock();
+        readLock.lock();
+        try {
+            ReadOnlyAddressBook addressBook = logic.getAddressBook();
+            QueryModel queryModel = new QueryModel(addressBook, logic.getUserPrefs(), logic.getAddressBookLock());
+            int bookingCount = addressBook.getBookingList().size();
+
+            new TodayCommand(BOOKING_DATE).execute(queryModel);
+            assertEquals(bookingCount, queryModel.getFilteredBookingList().size());
+
+            int bookingCountByStatus = 0;
+            for (Status status : Status.values()) {
+                new FilterCommand(null, null, status).execute(queryModel);
+                bookingCountByStatus += queryModel.getFilteredBookingList().size();
+            }
+            assertEquals(bookingCount, bookingCountByStatus);
+
+            for (Booking booking : addressBook.getBookingList()) {
+                Person bookingPerson = booking.getBookingPerson();
+                assertTrue(addressBook.getPersonList().contains(bookingPerson));
+                assertTrue(bookingPerson.getBookingIDs().contains(booking.getBookingId()));
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static String getPhone(int personIndex) {
+        return String.valueOf(90000000 + personIndex);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,14 +14,28 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListBookingCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.TodayCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -82,6 +97,138 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyAndFailedCommands_storageNotTouched() throws Exception {
+        AtomicInteger saveCount = useSaveCountingStorage();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListBookingCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " alice");
+        logic.execute(TodayCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 9"));
+
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedBackgroundSave_throwsCommandException() throws Exception {
+        AtomicBoolean hasFailedSave = new AtomicBoolean(true);
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void checkFailedSave() throws IOException {
+                if (hasFailedSave.getAndSet(false)) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        assertThrows(CommandException.class,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), () ->
+                        logic.execute(ListCommand.COMMAND_WORD));
+        // The failure is reported once
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_mutatingCommand_savedOnce() throws Exception {
+        AtomicInteger saveCount = useSaveCountingStorage();
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(1, saveCount.get());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void executeAsync_commands_runInSubmissionOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> firstAdd = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> secondAdd = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, list.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        firstAdd.get(5, TimeUnit.SECONDS);
+        Throwable duplicate = getFailureCause(secondAdd);
+        assertTrue(duplicate instanceof CommandException);
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_PERSON, duplicate.getMessage());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() {
+        Throwable failure = getFailureCause(logic.executeAsync("uicfhmowqewca"));
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+    }
+
+    /**
+     * Waits for {@code future} and returns the exception it failed with.
+     */
+    private static Throwable getFailureCause(CompletableFuture<CommandResult> future) {
+        return Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS)).getCause();
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage counts address book saves.
+     */
+    private AtomicInteger useSaveCountingStorage() {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        return saveCount;
+    }
+
+    @Test
+    public void getPersonsWithPrefix_personAdded_found() {
+        model.addPerson(AMY);
+        assertEquals(List.of(AMY), logic.getPersonsWithPhonePrefix(AMY.getPhone().value.substring(0, 3), 5));
+        assertEquals(List.of(AMY), logic.getPersonsWithNamePrefix("amy", 5));
+        assertTrue(logic.getPersonsWithNamePrefix("bob", 5).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPrefix_addressBookWriteLocked_emptyWithoutWaiting() throws Exception {
+        model.addPerson(AMY);
+        Lock writeLock = logic.getAddressBookLock().writeLock();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread command = new Thread(() -> {
+            writeLock.lock();
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                writeLock.unlock();
+            }
+        });
+        command.start();
+        try {
+            locked.await();
+            assertTrue(logic.getPersonsWithPhonePrefix(AMY.getPhone().value.substring(0, 3), 5).isEmpty());
+            assertTrue(logic.getPersonsWithNamePrefix("amy", 5).isEmpty());
+        } finally {
+            done.countDown();
+            command.join();
+        }
+        assertEquals(List.of(AMY), logic.getPersonsWithNamePrefix("amy", 5));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -7,10 +7,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
@@ -19,6 +22,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -91,6 +95,56 @@ public class AddBookingCommandTest {
                 AddBookingCommand.MESSAGE_INVALID_PERSON, () -> command.execute(modelStub));
     }
 
+    @Test
+    public void execute_overCapacity_throwsCommandException() throws Exception {
+        final Person person = new PersonBuilder().build();
+        final ModelStubAcceptingBooking modelStub = new ModelStubAcceptingBooking(person);
+        modelStub.userPrefs.setSeatingCapacity(10);
+        final LocalDateTime dinner = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0);
+
+        new AddBookingCommand(person.getPhone(), dinner, "Dinner", 6).execute(modelStub);
+        // Still seated an hour later
+        final AddBookingCommand command = new AddBookingCommand(person.getPhone(), dinner.plusHours(1), "Dinner", 5);
+
+        assertThrows(CommandException.class, String.format(AddBookingCommand.MESSAGE_OVER_CAPACITY, 4, 10, 5), () ->
+                command.execute(modelStub));
+        assertEquals(1, modelStub.getAddressBook().getBookingList().size());
+    }
+
+    @Test
+    public void execute_withinCapacity_success() throws Exception {
+        final Person person = new PersonBuilder().build();
+        final ModelStubAcceptingBooking modelStub = new ModelStubAcceptingBooking(person);
+        modelStub.userPrefs.setSeatingCapacity(10);
+        final LocalDateTime dinner = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0);
+
+        new AddBookingCommand(person.getPhone(), dinner, "Dinner", 6).execute(modelStub);
+        // The first party has left by then
+        new AddBookingCommand(person.getPhone(), dinner.plusHours(2), "Dinner", 10).execute(modelStub);
+        // Fills the restaurant once the first party arrives
+        new AddBookingCommand(person.getPhone(), dinner.minusHours(1), "Dinner", 4).execute(modelStub);
+
+        assertEquals(3, modelStub.getAddressBook().getBookingList().size());
+    }
+
+    @Test
+    public void execute_overCapacityWithOverbookingAllowed_warns() throws Exception {
+        final Person person = new PersonBuilder().build();
+        final ModelStubAcceptingBooking modelStub = new ModelStubAcceptingBooking(person);
+        modelStub.userPrefs.setSeatingCapacity(10);
+        modelStub.userPrefs.setOverbookingAllowed(true);
+        final LocalDateTime dinner = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0);
+
+        new AddBookingCommand(person.getPhone(), dinner, "Dinner", 8).execute(modelStub);
+        final CommandResult result = new AddBookingCommand(person.getPhone(), dinner.minusMinutes(45), "Dinner", 3)
+                .execute(modelStub);
+
+        final Booking overbooking = modelStub.getAddressBook().getBookingList().get(1);
+        final String expectedMessage = String.format(AddBookingCommand.MESSAGE_OVER_CAPACITY_WARNING, 2, 10, 3) + "\n"
+                + String.format(AddBookingCommand.MESSAGE_SUCCESS, Messages.format(overbooking));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         final Phone phone1 = new Phone("12345678");
@@ -181,6 +235,20 @@ public class AddBookingCommandTest {
 
         }
 
+
+        @Override
+
+        public long getAddressBookVersion() {
+
+            throw new AssertionError("This method should not be called.");
+
+        }
+
+        @Override
+        public ReadWriteLock getAddressBookLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -221,10 +289,21 @@ public class AddBookingCommandTest {
         public boolean isBookingListFiltered() {
             return false;
         }
+
+        @Override
+        public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBookingSortOrder(Comparator<Booking> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubAcceptingBooking extends ModelStub {
         private final AddressBook addressBook = new AddressBook();
+        private final UserPrefs userPrefs = new UserPrefs();
 
         ModelStubAcceptingBooking(Person person) {
             addressBook.addPerson(person);
@@ -239,5 +318,10 @@ public class AddBookingCommandTest {
         public void addBooking(Booking booking) {
             addressBook.addBooking(booking);
         }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return userPrefs;
+        }
     }
 }
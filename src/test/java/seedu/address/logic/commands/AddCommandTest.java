@@ -10,10 +10,13 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
@@ -170,6 +173,20 @@ public class AddCommandTest {
 
         }
 
+
+        @Override
+
+        public long getAddressBookVersion() {
+
+            throw new AssertionError("This method should not be called.");
+
+        }
+
+        @Override
+        public ReadWriteLock getAddressBookLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Booking> getFilteredBookingList() {
             return null;
@@ -190,6 +207,16 @@ public class AddCommandTest {
         public boolean isBookingListFiltered() {
             return false;
         }
+
+        @Override
+        public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBookingSortOrder(Comparator<Booking> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
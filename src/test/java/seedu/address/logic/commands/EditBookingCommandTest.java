@@ -7,11 +7,14 @@ import static seedu.address.logic.commands.EditBookingCommand.MESSAGE_PAST_BOOKI
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
@@ -30,7 +33,7 @@ public class EditBookingCommandTest {
     public void execute_validBookingEdit_success() throws Exception {
         Person person = new PersonBuilder().build();
         ModelStubAcceptingBooking modelStub = new ModelStubAcceptingBooking(person);
-        Booking booking = new Booking(person, LocalDateTime.now().plusDays(1), "Dinner", 4);
+        Booking booking = new Booking(1, person, LocalDateTime.now().plusDays(1), "Dinner", 4);
         modelStub.addBooking(booking);
 
         HashMap<String, Object> fieldsToEdit = new HashMap<>();
@@ -48,7 +51,7 @@ public class EditBookingCommandTest {
     public void execute_pastDateEdit_showsWarning() throws Exception {
         Person person = new PersonBuilder().build();
         ModelStubAcceptingBooking modelStub = new ModelStubAcceptingBooking(person);
-        Booking booking = new Booking(person, LocalDateTime.now().plusDays(1), "Dinner", 4);
+        Booking booking = new Booking(1, person, LocalDateTime.now().plusDays(1), "Dinner", 4);
         modelStub.addBooking(booking);
 
         HashMap<String, Object> fieldsToEdit = new HashMap<>();
@@ -139,6 +142,20 @@ public class EditBookingCommandTest {
 
         }
 
+
+        @Override
+
+        public long getAddressBookVersion() {
+
+            throw new AssertionError("This method should not be called.");
+
+        }
+
+        @Override
+        public ReadWriteLock getAddressBookLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -179,6 +196,16 @@ public class EditBookingCommandTest {
         public boolean isBookingListFiltered() {
             return false;
         }
+
+        @Override
+        public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBookingSortOrder(Comparator<Booking> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubAcceptingBooking extends EditBookingCommandTest.ModelStub {
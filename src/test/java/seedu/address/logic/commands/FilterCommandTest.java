@@ -5,10 +5,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -18,7 +23,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingQuery;
 import seedu.address.model.booking.Status;
+import seedu.address.model.booking.TimeWindow;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.testutil.PersonBuilder;
@@ -28,7 +35,7 @@ public class FilterCommandTest {
     @Test
     public void execute_validPhoneAndDateAndStatus_success() throws Exception {
         Person person = new PersonBuilder().withPhone("91234567").build();
-        Booking booking = new Booking(person,
+        Booking booking = new Booking(1, person,
                 LocalDateTime.of(2025, 4, 5, 18, 0), "Dinner", 4);
         booking.setBookingPerson(person);
         person.addBookingID(booking.getBookingId());
@@ -47,7 +54,7 @@ public class FilterCommandTest {
     @Test
     public void execute_invalidPhone_throwsCommandException() {
         Person person = new PersonBuilder().withPhone("91234567").build();
-        Booking booking = new Booking(person, LocalDateTime.now().plusDays(1), "Dinner", 4);
+        Booking booking = new Booking(1, person, LocalDateTime.now().plusDays(1), "Dinner", 4);
         booking.setBookingPerson(person);
 
         ModelStubWithBooking modelStub = new ModelStubWithBooking(person, booking);
@@ -61,7 +68,7 @@ public class FilterCommandTest {
     @Test
     public void execute_noMatchingBookings_returnsNoResultsMessage() throws Exception {
         Person person = new PersonBuilder().withPhone("91234567").build();
-        Booking booking = new Booking(person,
+        Booking booking = new Booking(1, person,
                 LocalDateTime.of(2025, 4, 5, 18, 0), "Dinner", 4);
         booking.setBookingPerson(person);
         person.addBookingID(booking.getBookingId());
@@ -80,7 +87,7 @@ public class FilterCommandTest {
     @Test
     public void execute_filterByDateOnlyWithResults_success() throws Exception {
         Person person = new PersonBuilder().build();
-        Booking booking = new Booking(person, LocalDateTime.of(2025, 3, 28, 18, 0), "Dinner", 2);
+        Booking booking = new Booking(1, person, LocalDateTime.of(2025, 3, 28, 18, 0), "Dinner", 2);
         booking.setBookingPerson(person);
 
         ModelStubWithBooking modelStub = new ModelStubWithBooking(person, booking);
@@ -95,7 +102,7 @@ public class FilterCommandTest {
     @Test
     public void execute_filterByStatusOnlyWithNoResults_showsNoBookings() throws Exception {
         Person person = new PersonBuilder().build();
-        Booking booking = new Booking(person, LocalDateTime.now().plusDays(1), "Lunch", 1);
+        Booking booking = new Booking(1, person, LocalDateTime.now().plusDays(1), "Lunch", 1);
         booking.setBookingPerson(person);
 
         ModelStubWithBooking modelStub = new ModelStubWithBooking(person, booking);
@@ -110,7 +117,7 @@ public class FilterCommandTest {
     @Test
     public void execute_filterByPhoneAndDateWithNoMatchingBookings_showsNoBookings() throws Exception {
         Person person = new PersonBuilder().build();
-        Booking booking = new Booking(person, LocalDateTime.of(2025, 3, 28, 20, 0), "Supper", 2);
+        Booking booking = new Booking(1, person, LocalDateTime.of(2025, 3, 28, 20, 0), "Supper", 2);
         booking.setBookingPerson(person);
 
         ModelStubWithBooking modelStub = new ModelStubWithBooking(person, booking);
@@ -126,6 +133,47 @@ public class FilterCommandTest {
         assertEquals(0, modelStub.getFilteredBookingList().size());
     }
 
+    @Test
+    public void execute_dateRangeAndTimeWindow_onlyBookingsInWindowListed() throws Exception {
+        Person person = new PersonBuilder().build();
+        Booking fridayDinner = new Booking(1, person, LocalDateTime.of(2025, 4, 4, 19, 0), "", 2);
+        Booking saturdayLunch = new Booking(2, person, LocalDateTime.of(2025, 4, 5, 12, 0), "", 2);
+        Booking sundayLateDinner = new Booking(3, person, LocalDateTime.of(2025, 4, 6, 22, 30), "", 2);
+        Booking mondayDinner = new Booking(4, person, LocalDateTime.of(2025, 4, 7, 19, 0), "", 2);
+        ModelStubWithBooking modelStub = new ModelStubWithBooking(person, fridayDinner, saturdayLunch,
+                sundayLateDinner, mondayDinner);
+
+        TimeWindow evening = new TimeWindow(LocalTime.of(18, 0), LocalTime.of(23, 0));
+        FilterCommand command = new FilterCommand(new BookingQuery(null, LocalDateTime.of(2025, 4, 4, 18, 0),
+                LocalDateTime.of(2025, 4, 6, 23, 1), evening, null));
+        CommandResult result = command.execute(modelStub);
+
+        assertEquals(String.format(FilterCommand.MESSAGE_SUCCESS, " from 04 Apr 2025 6:00 PM before 06 Apr 2025"
+                + " 11:01 PM between 6:00 PM and 11:00 PM"), result.getFeedbackToUser());
+        assertEquals(List.of(fridayDinner, sundayLateDinner), modelStub.getFilteredBookingList());
+    }
+
+    @Test
+    public void execute_openRangeWithStatusOrPhone_combinedWithRange() throws Exception {
+        Person person = new PersonBuilder().build();
+        Person otherPerson = new PersonBuilder().withPhone("99999999").build();
+        Booking early = new Booking(1, person, LocalDateTime.of(2025, 4, 4, 19, 0), "", 2);
+        Booking late = new Booking(2, person, LocalDateTime.of(2025, 4, 9, 19, 0), "", 2);
+        Booking othersLate = new Booking(3, otherPerson, LocalDateTime.of(2025, 4, 9, 20, 0), "", 2);
+        ModelStubWithBooking modelStub = new ModelStubWithBooking(person, early, late, othersLate);
+        modelStub.addressBook.addPerson(otherPerson);
+        modelStub.addressBook.setBookingStatus(othersLate.getBookingId(), Status.CANCELLED);
+
+        LocalDateTime from = LocalDateTime.of(2025, 4, 5, 0, 0);
+        new FilterCommand(new BookingQuery(null, from, null, TimeWindow.ALL_DAY, Status.UPCOMING))
+                .execute(modelStub);
+        assertEquals(List.of(late), modelStub.getFilteredBookingList());
+
+        new FilterCommand(new BookingQuery(otherPerson.getPhone(), from, null, TimeWindow.ALL_DAY, null))
+                .execute(modelStub);
+        assertEquals(List.of(othersLate), modelStub.getFilteredBookingList());
+    }
+
     private class ModelStub implements Model {
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
@@ -188,6 +236,20 @@ public class FilterCommandTest {
 
         }
 
+
+        @Override
+
+        public long getAddressBookVersion() {
+
+            throw new AssertionError("This method should not be called.");
+
+        }
+
+        @Override
+        public ReadWriteLock getAddressBookLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -227,16 +289,28 @@ public class FilterCommandTest {
         public boolean isBookingListFiltered() {
             return false;
         }
+
+        @Override
+        public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBookingSortOrder(Comparator<Booking> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubWithBooking extends ModelStub {
         private final AddressBook addressBook = new AddressBook();
         private final ObservableList<Booking> filteredBookings = FXCollections.observableArrayList();
 
-        ModelStubWithBooking(Person person, Booking booking) {
+        ModelStubWithBooking(Person person, Booking... bookings) {
             addressBook.addPerson(person);
-            addressBook.addBooking(booking);
-            filteredBookings.add(booking);
+            for (Booking booking : bookings) {
+                addressBook.addBooking(booking);
+                filteredBookings.add(booking);
+            }
         }
 
         @Override
@@ -6,10 +6,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -27,7 +30,7 @@ public class MarkCommandTest {
     @Test
     public void execute_validBookingId_success() throws Exception {
         Person person = new PersonBuilder().build();
-        Booking booking = new Booking(person, LocalDateTime.now().plusDays(1), "Dinner", 2);
+        Booking booking = new Booking(1, person, LocalDateTime.now().plusDays(1), "Dinner", 2);
         booking.setBookingPerson(person);
 
         ModelStubWithBookings modelStub = new ModelStubWithBookings(booking);
@@ -136,6 +139,20 @@ public class MarkCommandTest {
 
         }
 
+
+        @Override
+
+        public long getAddressBookVersion() {
+
+            throw new AssertionError("This method should not be called.");
+
+        }
+
+        @Override
+        public ReadWriteLock getAddressBookLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +192,16 @@ public class MarkCommandTest {
         public boolean isBookingListFiltered() {
             return false;
         }
+
+        @Override
+        public ReadOnlyBooleanProperty bookingListFilteredProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBookingSortOrder(Comparator<Booking> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubWithBookings extends ModelStub {
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class TodayCommandTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final int LARGE_BOOKING_COUNT = 100_000;
+
+    private final Model model = new ModelManager();
+    private final AddressBook addressBook = (AddressBook) model.getAddressBook();
+
+    @Test
+    public void execute_bookingsOnDate_personsAndCountsForThatDate() throws Exception {
+        Person amy = addPerson("11111111");
+        Person bob = addPerson("22222222");
+        Person carl = addPerson("33333333");
+        addBooking(amy, DATE.atTime(12, 0));
+        Booking cancelled = addBooking(amy, DATE.atTime(19, 0));
+        addBooking(bob, DATE.atTime(19, 0));
+        addBooking(carl, DATE.plusDays(1).atTime(12, 0));
+        addressBook.setBookingStatus(cancelled.getBookingId(), Status.CANCELLED);
+
+        CommandResult result = new TodayCommand(DATE).execute(model);
+
+        assertEquals(TodayCommand.MESSAGE_SUCCESS + "\nUpcoming: 2, Completed: 0, Cancelled: 1",
+                result.getFeedbackToUser());
+        assertEquals(3, model.getFilteredBookingList().size());
+        assertEquals(List.of(amy, bob), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noBookingsOnDate_personsUntouched() throws Exception {
+        Person amy = addPerson("11111111");
+        addBooking(amy, DATE.plusDays(1).atTime(12, 0));
+
+        CommandResult result = new TodayCommand(DATE).execute(model);
+
+        assertEquals(TodayCommand.MESSAGE_NO_BOOKING, result.getFeedbackToUser());
+        assertTrue(model.getFilteredBookingList().isEmpty());
+        assertEquals(List.of(amy), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_manyBookings_onlyPersonsWithBookingsOnDate() throws Exception {
+        // Would take minutes if every person were compared against every booking on the date
+        int personCount = LARGE_BOOKING_COUNT / 10;
+        List<Person> persons = new ArrayList<>(personCount);
+        List<Booking> bookings = new ArrayList<>(LARGE_BOOKING_COUNT);
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(10_000_000 + i)).build();
+            persons.add(person);
+            for (int j = 0; j < 10; j++) {
+                Booking booking = new BookingBuilder().withBookingPerson(person)
+                        .withBookingDateTime(DATE.plusDays(i % 2 + j * 2).atTime(18, 0).toString()).build();
+                person.addBookingID(booking.getBookingId());
+                bookings.add(booking);
+            }
+        }
+        AddressBook largeAddressBook = new AddressBook();
+        largeAddressBook.setPersons(persons);
+        largeAddressBook.setBookings(bookings);
+        Model largeModel = new ModelManager(largeAddressBook, new UserPrefs());
+
+        CommandResult result = new TodayCommand(DATE).execute(largeModel);
+
+        assertEquals(TodayCommand.MESSAGE_SUCCESS + "\nUpcoming: " + personCount / 2 + ", Completed: 0, Cancelled: 0",
+                result.getFeedbackToUser());
+        assertEquals(personCount / 2, largeModel.getFilteredPersonList().size());
+        assertEquals(personCount / 2, largeModel.getFilteredBookingList().size());
+    }
+
+    @Test
+    public void equals() {
+        TodayCommand todayCommand = new TodayCommand(DATE);
+        assertTrue(todayCommand.equals(new TodayCommand(DATE)));
+        assertFalse(todayCommand.equals(new TodayCommand(DATE.plusDays(1))));
+        assertFalse(todayCommand.equals(null));
+    }
+
+    private Person addPerson(String phone) {
+        Person person = new PersonBuilder().withPhone(phone).build();
+        model.addPerson(person);
+        return person;
+    }
+
+    private Booking addBooking(Person person, LocalDateTime dateTime) {
+        Booking booking = new BookingBuilder().withBookingPerson(person).withBookingDateTime(dateTime.toString())
+                .build();
+        person.addBookingID(booking.getBookingId());
+        addressBook.addBooking(booking);
+        return booking;
+    }
+}
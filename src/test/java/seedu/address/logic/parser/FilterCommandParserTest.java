@@ -4,12 +4,16 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.booking.BookingQuery;
 import seedu.address.model.booking.Status;
+import seedu.address.model.booking.TimeWindow;
 import seedu.address.model.person.Phone;
 
 public class FilterCommandParserTest {
@@ -46,6 +50,55 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, input, expected);
     }
 
+    @Test
+    public void parse_dateRange_success() {
+        // a date-only end covers that whole day, and a date-time end covers its minute
+        FilterCommand expected = new FilterCommand(new BookingQuery(null, LocalDateTime.of(2025, 4, 4, 18, 0),
+                LocalDateTime.of(2025, 4, 7, 0, 0), TimeWindow.ALL_DAY, null));
+        assertParseSuccess(parser, " from/2025-04-04 6:00 PM to/2025-04-06", expected);
+
+        expected = new FilterCommand(new BookingQuery(null, LocalDateTime.of(2025, 4, 4, 0, 0),
+                LocalDateTime.of(2025, 4, 6, 23, 1), TimeWindow.ALL_DAY, Status.UPCOMING));
+        assertParseSuccess(parser, " from/2025-04-04 to/2025-04-06 11:00 PM s/upcoming", expected);
+
+        expected = new FilterCommand(new BookingQuery(null, null, LocalDateTime.of(2025, 4, 7, 0, 0),
+                TimeWindow.ALL_DAY, null));
+        assertParseSuccess(parser, " to/2025-04-06", expected);
+    }
+
+    @Test
+    public void parse_nextDays_success() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        FilterCommand expected = new FilterCommand(new BookingQuery(null, today, today.plusDays(14),
+                TimeWindow.ALL_DAY, null));
+        assertParseSuccess(parser, " next/14", expected);
+
+        expected = new FilterCommand(new BookingQuery(null, today, today.plusDays(FilterCommandParser.MAX_DAYS),
+                TimeWindow.ALL_DAY, null));
+        assertParseSuccess(parser, " next/" + FilterCommandParser.MAX_DAYS, expected);
+    }
+
+    @Test
+    public void parse_timeWindow_success() {
+        TimeWindow evening = new TimeWindow(LocalTime.of(18, 0), LocalTime.of(23, 0));
+        FilterCommand expected = new FilterCommand(new BookingQuery(new Phone("91234567"), null, null, evening,
+                null));
+        assertParseSuccess(parser, " p/91234567 time/6:00 PM-11:00 PM", expected);
+    }
+
+    @Test
+    public void parse_invalidRangeOrWindow_failure() {
+        assertParseFailure(parser, " d/2025-04-04 next/3", FilterCommandParser.MESSAGE_CONFLICTING_DATES);
+        assertParseFailure(parser, " d/2025-04-04 from/2025-04-01", FilterCommandParser.MESSAGE_CONFLICTING_DATES);
+        assertParseFailure(parser, " from/2025-04-06 to/2025-04-05", FilterCommandParser.MESSAGE_EMPTY_RANGE);
+        assertParseFailure(parser, " next/0", FilterCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " next/two", FilterCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " next/" + (FilterCommandParser.MAX_DAYS + 1),
+                FilterCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " next/" + Long.MAX_VALUE, FilterCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " time/6:00 PM", FilterCommandParser.MESSAGE_INVALID_TIME_WINDOW);
+    }
+
     @Test
     public void parse_missingAllFields_failure() {
         String input = "";
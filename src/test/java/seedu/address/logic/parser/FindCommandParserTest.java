@@ -4,31 +4,61 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
-import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchQuery.Term;
 
 public class FindCommandParserTest {
 
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
     private FindCommandParser parser = new FindCommandParser();
 
     @Test
     public void parse_emptyArg_throwsParseException() {
-        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
     }
 
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
-        FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+        FindCommand expectedFindCommand = new FindCommand(new SearchQuery(List.of(
+                List.of(new Term("alice", false)), List.of(new Term("bob", false)))));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // explicit OR
+        assertParseSuccess(parser, "Alice OR Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_groupedIntoClauses() {
+        FindCommand expectedFindCommand = new FindCommand(new SearchQuery(List.of(
+                List.of(new Term("alice", false)),
+                List.of(new Term("bob", false), new Term("jur", true)),
+                List.of(new Term("carl", false)))));
+        assertParseSuccess(parser, "alice bob AND jur* OR carl", expectedFindCommand);
     }
 
+    @Test
+    public void parse_keywordWithSeveralWords_allWordsRequired() {
+        FindCommand expectedFindCommand = new FindCommand(new SearchQuery(List.of(
+                List.of(new Term("o", false), new Term("brien", true)))));
+        assertParseSuccess(parser, "O'Brien*", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_misplacedOperatorOrWildcard_throwsParseException() {
+        assertParseFailure(parser, "AND alice", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alice OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alice AND OR bob", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "*", MESSAGE_INVALID_FORMAT);
+    }
 }
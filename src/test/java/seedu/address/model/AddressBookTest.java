@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -12,15 +14,22 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchQuery.Term;
+import seedu.address.testutil.BookingBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +88,114 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPerson_personWithBookings_bookingsLinkedToEditedPerson() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        addressBook.addPerson(amy);
+        Booking booking = addBookingFor(amy);
+
+        Person editedAmy = new PersonBuilder(amy).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(amy, editedAmy);
+
+        assertSame(editedAmy, booking.getBookingPerson());
+        assertEquals(List.of(booking), addressBook.getBookingsOf(editedAmy.getPhone()));
+    }
+
+    @Test
+    public void setPerson_editedPersonIsDuplicate_bookingsUnchanged() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        Person bob = new PersonBuilder().withPhone("22222222").build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        Booking booking = addBookingFor(amy);
+
+        Person editedAmy = new PersonBuilder(amy).withPhone("22222222").build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.setPerson(amy, editedAmy));
+
+        assertSame(amy, booking.getBookingPerson());
+        assertEquals(List.of(booking), addressBook.getBookingsOf(amy.getPhone()));
+        assertTrue(addressBook.getBookingsOf(bob.getPhone()).isEmpty());
+    }
+
+    @Test
+    public void setPerson_targetNotInAddressBook_bookingsUnchanged() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        addressBook.addPerson(amy);
+        Booking booking = addBookingFor(amy);
+
+        Person otherAmy = new PersonBuilder(amy).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedAmy = new PersonBuilder(amy).withPhone("33333333").build();
+        assertThrows(PersonNotFoundException.class, () -> addressBook.setPerson(otherAmy, editedAmy));
+
+        assertSame(amy, booking.getBookingPerson());
+        assertEquals(List.of(booking), addressBook.getBookingsOf(amy.getPhone()));
+    }
+
+    @Test
+    public void removePerson_personWithBookings_onlyTheirBookingsRemoved() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        Person bob = new PersonBuilder().withPhone("22222222").build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addBookingFor(amy);
+        addBookingFor(amy);
+        Booking bobsBooking = addBookingFor(bob);
+
+        addressBook.removePerson(amy);
+
+        assertEquals(List.of(bobsBooking), addressBook.getBookingList());
+        assertTrue(addressBook.getBookingsOf(amy.getPhone()).isEmpty());
+    }
+
+    @Test
+    public void setBookings_nextBookingIdNotSet_newIdsNotInUse() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        addressBook.addPerson(amy);
+        Booking booking = new BookingBuilder().withBookingPerson(amy).build();
+
+        addressBook.setBookings(List.of(booking));
+
+        assertTrue(addressBook.nextBookingId() > booking.getBookingId());
+    }
+
+    @Test
+    public void getBookingPhone_removedBooking_returnsNull() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        addressBook.addPerson(amy);
+        Booking booking = addBookingFor(amy);
+        assertEquals(amy.getPhone(), addressBook.getBookingPhone(booking.getBookingId()));
+
+        addressBook.removeBooking(booking);
+        assertNull(addressBook.getBookingPhone(booking.getBookingId()));
+    }
+
+    @Test
+    public void search_afterEdits_reflectsCurrentFields() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").build();
+        addressBook.addPerson(amy);
+        Booking booking = addBookingFor(amy);
+        SearchQuery bee = new SearchQuery(List.of(List.of(new Term("bee", false))));
+        SearchQuery window = new SearchQuery(List.of(List.of(new Term("window", false))));
+
+        addressBook.setPerson(amy, new PersonBuilder(amy).withName("Amy Cee").build());
+        assertTrue(addressBook.search(bee).isEmpty());
+
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("remarks", "window seat");
+        addressBook.updateBookingFields(booking.getBookingId(), fieldsToEdit);
+        assertEquals(Set.of(amy.getPhone()), addressBook.search(window));
+
+        addressBook.removeBooking(booking);
+        assertTrue(addressBook.search(window).isEmpty());
+    }
+
+    @Test
+    public void updateBookingFields_unknownBookingId_throwsBookingNotFoundException() {
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("remarks", "window seat");
+        assertThrows(BookingNotFoundException.class, () -> addressBook.updateBookingFields(12345, fieldsToEdit));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -90,6 +207,13 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    private Booking addBookingFor(Person person) {
+        Booking booking = new BookingBuilder().withBookingPerson(person).build();
+        person.addBookingID(booking.getBookingId());
+        addressBook.addBooking(booking);
+        return booking;
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -110,6 +234,11 @@ public class AddressBookTest {
         public ObservableList<Booking> getBookingList() {
             return bookings;
         }
+
+        @Override
+        public int getNextBookingId() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookingQueryPlanner.AccessPath;
+import seedu.address.model.BookingQueryPlanner.Plan;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingQuery;
+import seedu.address.model.booking.Status;
+import seedu.address.model.booking.TimeWindow;
+import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class BookingQueryPlannerTest {
+
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2025, 4, 1, 0, 0);
+    private static final TimeWindow EVENING = new TimeWindow(LocalTime.of(18, 0), LocalTime.of(23, 0));
+
+    private final UniqueBookingList bookings = new UniqueBookingList();
+    private final PersonBookingIndex personBookingIndex = new PersonBookingIndex();
+    private final BookingQueryPlanner planner = new BookingQueryPlanner(bookings, personBookingIndex);
+
+    // Books a lunch and a dinner every day for 30 days, all by the regular, and one dinner by the newcomer
+    private final Person regular = new PersonBuilder().withPhone("11111111").build();
+    private final Person newcomer = new PersonBuilder().withPhone("22222222").build();
+
+    {
+        int bookingId = 1;
+        for (int day = 0; day < 30; day++) {
+            addBooking(bookingId++, regular, FIRST_DAY.plusDays(day).withHour(12));
+            addBooking(bookingId++, regular, FIRST_DAY.plusDays(day).withHour(19));
+        }
+        addBooking(bookingId, newcomer, FIRST_DAY.plusDays(3).withHour(20));
+        bookings.setBookingStatus(bookingId, Status.CANCELLED);
+    }
+
+    @Test
+    public void plan_noPhone_scansDateIndexOrStatusPartition() {
+        assertEquals(AccessPath.DATE_INDEX_SCAN, planner.plan(query(null, null, EVENING, null)).getAccessPath());
+        assertEquals(AccessPath.STATUS_PARTITION_SCAN,
+                planner.plan(query(null, null, TimeWindow.ALL_DAY, Status.CANCELLED)).getAccessPath());
+    }
+
+    @Test
+    public void plan_personWithFewBookings_usesTheirBookings() {
+        Plan plan = planner.plan(query(newcomer.getPhone(), FIRST_DAY, EVENING, Status.UPCOMING));
+        assertEquals(AccessPath.PERSON_BOOKINGS, plan.getAccessPath());
+        assertEquals(List.of("date range", "time window", "status"), plan.getRemainingCriteria());
+        assertTrue(plan.toString().contains("rejected [date range scan of the status partition (>1 candidates)]"),
+                plan.toString());
+    }
+
+    @Test
+    public void plan_narrowRangeForRegular_scansRange() {
+        Plan plan = planner.plan(new BookingQuery(regular.getPhone(), FIRST_DAY.plusDays(5), FIRST_DAY.plusDays(6),
+                EVENING, null));
+        assertEquals(AccessPath.DATE_INDEX_SCAN, plan.getAccessPath());
+        assertEquals(List.of("phone"), plan.getRemainingCriteria());
+        assertTrue(plan.toString().contains("rejected [bookings of the person (60 candidates)]"), plan.toString());
+    }
+
+    @Test
+    public void find_everyPlan_sameBookingsAsCheckingEachBooking() {
+        List<BookingQuery> queries = new ArrayList<>();
+        for (Phone phone : new Phone[] {null, regular.getPhone(), newcomer.getPhone()}) {
+            for (Status status : new Status[] {null, Status.UPCOMING, Status.CANCELLED}) {
+                queries.add(query(phone, null, TimeWindow.ALL_DAY, status));
+                queries.add(query(phone, FIRST_DAY.plusDays(2), EVENING, status));
+                queries.add(new BookingQuery(phone, FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(4), EVENING, status));
+            }
+        }
+
+        for (BookingQuery query : queries) {
+            List<Booking> expected = bookings.asUnmodifiableObservableList().stream()
+                    .filter(booking -> query.getPhone() == null
+                            || query.getPhone().equals(booking.getBookingPerson().getPhone()))
+                    .filter(query::matchesDateTime)
+                    .filter(query::matchesStatus)
+                    .sorted(Comparator.comparingInt(Booking::getBookingId))
+                    .collect(Collectors.toList());
+            List<Booking> actual = new ArrayList<>(planner.find(query));
+            actual.sort(Comparator.comparingInt(Booking::getBookingId));
+            assertEquals(expected, actual, query.toString());
+        }
+    }
+
+    private void addBooking(int bookingId, Person person, LocalDateTime dateTime) {
+        bookings.add(new Booking(bookingId, person, dateTime, "", 2));
+        personBookingIndex.link(person.getPhone(), bookingId);
+    }
+
+    private static BookingQuery query(Phone phone, LocalDateTime start, TimeWindow timeWindow, Status status) {
+        return new BookingQuery(phone, start, null, timeWindow, status);
+    }
+}
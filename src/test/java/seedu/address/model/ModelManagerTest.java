@@ -2,19 +2,30 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.COMPARATOR_BOOKING_DATE;
+import static seedu.address.model.Model.COMPARATOR_BOOKING_PAX;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BOOKINGS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_BOOKINGS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBookWithBookings;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.booking.Booking;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -93,6 +104,51 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredBookingList_repeatedCalls_returnsSameView() {
+        modelManager = new ModelManager(getTypicalAddressBookWithBookings(), new UserPrefs());
+        ObservableList<Booking> view = modelManager.getFilteredBookingList();
+
+        // a new view per call would register another listener on the filtered list every time
+        for (int i = 0; i < 10_000; i++) {
+            modelManager.updateFilteredBookingList(i % 2 == 0
+                    ? PREDICATE_SHOW_UPCOMING_BOOKINGS : PREDICATE_SHOW_ALL_BOOKINGS);
+            assertSame(view, modelManager.getFilteredBookingList());
+        }
+    }
+
+    @Test
+    public void updateBookingSortOrder_sortsViewInPlace() {
+        modelManager = new ModelManager(getTypicalAddressBookWithBookings(), new UserPrefs());
+        ObservableList<Booking> view = modelManager.getFilteredBookingList();
+        assertSorted(view, COMPARATOR_BOOKING_DATE);
+
+        modelManager.updateBookingSortOrder(COMPARATOR_BOOKING_PAX);
+        assertSame(view, modelManager.getFilteredBookingList());
+        assertSorted(view, COMPARATOR_BOOKING_PAX);
+    }
+
+    @Test
+    public void updateBookingSortOrder_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateBookingSortOrder(null));
+    }
+
+    private static void assertSorted(List<Booking> bookings, Comparator<Booking> comparator) {
+        for (int i = 1; i < bookings.size(); i++) {
+            assertTrue(comparator.compare(bookings.get(i - 1), bookings.get(i)) <= 0);
+        }
+    }
+
+    @Test
+    public void getAddressBookVersion_changesOnlyWhenDataChanges() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Phone;
+
+public class PersonBookingIndexTest {
+
+    private static final Phone AMY_PHONE = new Phone("11111111");
+    private static final Phone BOB_PHONE = new Phone("22222222");
+
+    private final PersonBookingIndex index = new PersonBookingIndex();
+
+    @Test
+    public void link_bookings_lookedUpBothWays() {
+        index.link(AMY_PHONE, 3);
+        index.link(AMY_PHONE, 1);
+        index.link(BOB_PHONE, 2);
+
+        assertArrayEquals(new int[] {1, 3}, index.getBookingIds(AMY_PHONE).toIntArray());
+        assertEquals(AMY_PHONE, index.getPhone(3));
+        assertEquals(BOB_PHONE, index.getPhone(2));
+    }
+
+    @Test
+    public void link_linkedBooking_movedToNewPerson() {
+        index.link(AMY_PHONE, 1);
+        index.link(BOB_PHONE, 1);
+
+        assertTrue(index.getBookingIds(AMY_PHONE).isEmpty());
+        assertEquals(BOB_PHONE, index.getPhone(1));
+    }
+
+    @Test
+    public void unlink_lastBooking_personHasNoBookings() {
+        index.link(AMY_PHONE, 1);
+        index.unlink(1);
+        index.unlink(1);
+
+        assertTrue(index.getBookingIds(AMY_PHONE).isEmpty());
+        assertNull(index.getPhone(1));
+    }
+
+    @Test
+    public void unlinkAll_returnsUnlinkedBookings() {
+        index.link(AMY_PHONE, 1);
+        index.link(AMY_PHONE, 2);
+        index.link(BOB_PHONE, 3);
+
+        assertArrayEquals(new int[] {1, 2}, index.unlinkAll(AMY_PHONE).toIntArray());
+        assertNull(index.getPhone(1));
+        assertEquals(BOB_PHONE, index.getPhone(3));
+        assertTrue(index.unlinkAll(AMY_PHONE).isEmpty());
+    }
+
+    @Test
+    public void relink_newPhone_bookingsMoved() {
+        index.link(AMY_PHONE, 1);
+        index.link(AMY_PHONE, 2);
+        index.relink(AMY_PHONE, BOB_PHONE);
+
+        assertTrue(index.getBookingIds(AMY_PHONE).isEmpty());
+        assertArrayEquals(new int[] {1, 2}, index.getBookingIds(BOB_PHONE).toIntArray());
+        assertEquals(BOB_PHONE, index.getPhone(2));
+    }
+}
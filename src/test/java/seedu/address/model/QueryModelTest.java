@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Paths;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class QueryModelTest {
+
+    @Test
+    public void getUserPrefs_returnsSnapshot() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Paths.get("address/book/file/path"));
+        userPrefs.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        QueryModel queryModel = new QueryModel(new AddressBook(), userPrefs, new ReentrantReadWriteLock());
+
+        userPrefs.setAddressBookFilePath(Paths.get("changed/path"));
+
+        assertEquals(Paths.get("address/book/file/path"), queryModel.getAddressBookFilePath());
+        assertEquals(new GuiSettings(1, 2, 3, 4), queryModel.getGuiSettings());
+        assertEquals(Paths.get("address/book/file/path"), queryModel.getUserPrefs().getAddressBookFilePath());
+    }
+
+    @Test
+    public void setUserPrefs_throwsUnsupportedOperationException() {
+        QueryModel queryModel = new QueryModel(new AddressBook(), new UserPrefs(), new ReentrantReadWriteLock());
+        assertThrows(UnsupportedOperationException.class, () -> queryModel.setUserPrefs(new UserPrefs()));
+        assertThrows(UnsupportedOperationException.class, () -> queryModel.setGuiSettings(new GuiSettings()));
+    }
+
+    @Test
+    public void hasPerson_personInAddressBook_returnsTrue() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        QueryModel queryModel = new QueryModel(addressBook, new UserPrefs(), new ReentrantReadWriteLock());
+
+        assertTrue(queryModel.hasPerson(ALICE));
+        assertFalse(queryModel.hasPerson(BENSON));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class BookingIdSequencerTest {
+
+    @Test
+    public void allocate_newSequencer_countsUpFromFirstBookingId() {
+        BookingIdSequencer sequencer = new BookingIdSequencer();
+        assertEquals(BookingIdSequencer.FIRST_BOOKING_ID, sequencer.allocate());
+        assertEquals(BookingIdSequencer.FIRST_BOOKING_ID + 1, sequencer.allocate());
+        assertEquals(BookingIdSequencer.FIRST_BOOKING_ID + 2, sequencer.getNextId());
+    }
+
+    @Test
+    public void advancePast_higherId_skipsToAfterIt() {
+        BookingIdSequencer sequencer = new BookingIdSequencer();
+        sequencer.advancePast(7);
+        assertEquals(8, sequencer.allocate());
+    }
+
+    @Test
+    public void advancePast_lowerId_unchanged() {
+        BookingIdSequencer sequencer = new BookingIdSequencer();
+        sequencer.reset(10);
+        sequencer.advancePast(3);
+        assertEquals(10, sequencer.allocate());
+    }
+
+    @Test
+    public void allocate_concurrentCallers_noDuplicates() throws Exception {
+        BookingIdSequencer sequencer = new BookingIdSequencer();
+        int threadCount = 8;
+        int allocationsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    List<Integer> ids = new ArrayList<>(allocationsPerThread);
+                    for (int j = 0; j < allocationsPerThread; j++) {
+                        ids.add(sequencer.allocate());
+                        sequencer.advancePast(j);
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Integer> allIds = new HashSet<>();
+            for (Future<List<Integer>> result : results) {
+                for (int id : result.get()) {
+                    assertTrue(allIds.add(id), "Booking ID " + id + " was handed out twice");
+                }
+            }
+            assertEquals(BookingIdSequencer.FIRST_BOOKING_ID + threadCount * allocationsPerThread,
+                    sequencer.getNextId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
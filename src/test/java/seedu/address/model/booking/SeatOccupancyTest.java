@@ -0,0 +1,80 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class SeatOccupancyTest {
+
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.of(2025, 4, 5, 19, 0);
+
+    private final SeatOccupancy occupancy = new SeatOccupancy();
+
+    @Test
+    public void coversArrivingBetween_countsBySlot() {
+        occupancy.add(SEVEN_PM, 4);
+        occupancy.add(SEVEN_PM.plusMinutes(10), 2);
+        occupancy.add(SEVEN_PM.plusMinutes(15), 3);
+
+        assertEquals(6, occupancy.coversArrivingBetween(SEVEN_PM, SEVEN_PM.plusMinutes(15)));
+        assertEquals(9, occupancy.coversArrivingBetween(SEVEN_PM, SEVEN_PM.plusMinutes(30)));
+        assertEquals(3, occupancy.coversArrivingBetween(SEVEN_PM.plusMinutes(15), SEVEN_PM.plusHours(1)));
+        assertEquals(0, occupancy.coversArrivingBetween(SEVEN_PM.plusMinutes(30), SEVEN_PM.plusDays(1)));
+        assertEquals(9, occupancy.coversArrivingBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void seatsTakenAt_partiesStayForDiningDuration() {
+        occupancy.add(SEVEN_PM, 4);
+
+        assertEquals(0, occupancy.seatsTakenAt(SEVEN_PM.minusMinutes(1)));
+        assertEquals(4, occupancy.seatsTakenAt(SEVEN_PM));
+        assertEquals(4, occupancy.seatsTakenAt(SEVEN_PM.plus(SeatOccupancy.DINING_DURATION).minusMinutes(1)));
+        assertEquals(0, occupancy.seatsTakenAt(SEVEN_PM.plus(SeatOccupancy.DINING_DURATION)));
+    }
+
+    @Test
+    public void peakSeatsTakenDuring_overlappingParties_returnsBusiestSlot() {
+        occupancy.add(SEVEN_PM, 4);
+        occupancy.add(SEVEN_PM.plusHours(1), 5);
+        occupancy.add(SEVEN_PM.plusHours(3), 8);
+
+        assertEquals(9, occupancy.peakSeatsTakenDuring(SEVEN_PM.minusMinutes(15)));
+        assertEquals(4, occupancy.peakSeatsTakenDuring(SEVEN_PM.minusHours(1)));
+        // The first party has left when the last one arrives
+        assertEquals(8, occupancy.peakSeatsTakenDuring(SEVEN_PM.plusHours(2)));
+        assertEquals(0, occupancy.peakSeatsTakenDuring(SEVEN_PM.minusHours(2)));
+    }
+
+    @Test
+    public void remove_restoresCovers() {
+        occupancy.add(SEVEN_PM, 4);
+        occupancy.add(SEVEN_PM, 2);
+        occupancy.remove(SEVEN_PM, 4);
+
+        assertEquals(2, occupancy.seatsTakenAt(SEVEN_PM));
+    }
+
+    @Test
+    public void clear_removesAllCovers() {
+        occupancy.add(SEVEN_PM, 4);
+        occupancy.clear();
+        occupancy.add(SEVEN_PM.plusDays(1), 1);
+
+        assertEquals(0, occupancy.seatsTakenAt(SEVEN_PM));
+        assertEquals(1, occupancy.coversArrivingBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void add_manyDistantSlots_sumsAll() {
+        LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+        for (int day = 0; day < 10_000; day++) {
+            occupancy.add(start.plusDays(day).plusMinutes(15 * (day % 96)), 2);
+        }
+
+        assertEquals(20_000, occupancy.coversArrivingBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(2 * 365, occupancy.coversArrivingBetween(start, start.plusDays(365)));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeWindowTest {
+
+    private static final TimeWindow EVENING = new TimeWindow(LocalTime.of(18, 0), LocalTime.of(23, 0));
+    private static final TimeWindow LATE_NIGHT = new TimeWindow(LocalTime.of(22, 0), LocalTime.of(2, 0));
+
+    @Test
+    public void contains_boundsAreInclusive() {
+        assertTrue(EVENING.contains(LocalTime.of(18, 0)));
+        assertTrue(EVENING.contains(LocalTime.of(23, 0)));
+        assertFalse(EVENING.contains(LocalTime.of(23, 1)));
+        assertFalse(EVENING.contains(LocalTime.of(17, 59)));
+    }
+
+    @Test
+    public void contains_pastMidnight_wrapsAround() {
+        assertTrue(LATE_NIGHT.contains(LocalTime.of(23, 30)));
+        assertTrue(LATE_NIGHT.contains(LocalTime.of(1, 0)));
+        assertFalse(LATE_NIGHT.contains(LocalTime.of(12, 0)));
+    }
+
+    @Test
+    public void forEachInterval_severalDays_oneIntervalPerDayClippedToRange() {
+        List<LocalDateTime> bounds = new ArrayList<>();
+        EVENING.forEachInterval(LocalDateTime.of(2025, 4, 4, 20, 0), LocalDateTime.of(2025, 4, 6, 19, 0),
+                (start, end) -> {
+                    bounds.add(start);
+                    bounds.add(end);
+                    return true;
+                });
+
+        LocalDateTime endOfWindow = LocalDateTime.of(2025, 4, 4, 23, 0).plusNanos(1);
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 4, 4, 20, 0), endOfWindow,
+                LocalDateTime.of(2025, 4, 5, 18, 0), endOfWindow.plusDays(1),
+                LocalDateTime.of(2025, 4, 6, 18, 0), LocalDateTime.of(2025, 4, 6, 19, 0)), bounds);
+    }
+
+    @Test
+    public void forEachInterval_pastMidnight_intervalsInOrder() {
+        List<LocalDateTime> starts = new ArrayList<>();
+        LATE_NIGHT.forEachInterval(LocalDateTime.of(2025, 4, 5, 0, 0), LocalDateTime.of(2025, 4, 6, 0, 0),
+                (start, end) -> starts.add(start));
+        assertEquals(List.of(LocalDateTime.of(2025, 4, 5, 0, 0), LocalDateTime.of(2025, 4, 5, 22, 0)), starts);
+    }
+
+    @Test
+    public void forEachInterval_allDay_wholeRangeAtOnce() {
+        List<LocalDateTime> starts = new ArrayList<>();
+        TimeWindow.ALL_DAY.forEachInterval(LocalDateTime.MIN, LocalDateTime.MAX, (start, end) -> starts.add(start));
+        assertEquals(List.of(LocalDateTime.MIN), starts);
+    }
+
+    @Test
+    public void forEachInterval_actionReturnsFalse_remainingDaysSkipped() {
+        List<LocalDateTime> starts = new ArrayList<>();
+        LATE_NIGHT.forEachInterval(LocalDateTime.of(2025, 4, 5, 0, 0), LocalDateTime.of(2125, 4, 5, 0, 0),
+                (start, end) -> {
+                    starts.add(start);
+                    return starts.size() < 3;
+                });
+        assertEquals(List.of(LocalDateTime.of(2025, 4, 5, 0, 0), LocalDateTime.of(2025, 4, 5, 22, 0),
+                LocalDateTime.of(2025, 4, 6, 0, 0)), starts);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(EVENING.equals(new TimeWindow(LocalTime.of(18, 0), LocalTime.of(23, 0))));
+        assertFalse(EVENING.equals(LATE_NIGHT));
+        assertFalse(EVENING.equals(null));
+        assertTrue(new TimeWindow(LocalTime.MIN, LocalTime.MAX).isAllDay());
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
+import seedu.address.testutil.BookingBuilder;
+
+public class UniqueBookingListTest {
+
+    private final UniqueBookingList uniqueBookingList = new UniqueBookingList();
+
+    private final Booking lunch = new BookingBuilder().withBookingDateTime("2025-04-05T12:00").build();
+    private final Booking dinner = new BookingBuilder().withBookingDateTime("2025-04-05T19:00").build();
+    private final Booking nextDayLunch = new BookingBuilder().withBookingDateTime("2025-04-06T12:00").build();
+
+    @Test
+    public void getBookingsOn_bookingsOnSeveralDates_returnsOnlyThatDateInOrder() {
+        uniqueBookingList.add(nextDayLunch);
+        uniqueBookingList.add(dinner);
+        uniqueBookingList.add(lunch);
+
+        assertEquals(Arrays.asList(lunch, dinner), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 5)));
+        assertEquals(Collections.singletonList(nextDayLunch),
+                uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 6)));
+        assertEquals(Collections.emptyList(), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 7)));
+    }
+
+    @Test
+    public void getBookingsBetween_endIsExclusive() {
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner, nextDayLunch));
+
+        List<Booking> result = uniqueBookingList.getBookingsBetween(LocalDateTime.of(2025, 4, 5, 12, 0),
+                LocalDateTime.of(2025, 4, 6, 12, 0));
+        assertEquals(Arrays.asList(lunch, dinner), result);
+    }
+
+    @Test
+    public void getBookingsBetween_timeWindow_onlyBookingsAtThoseTimesInOrder() {
+        uniqueBookingList.setBookings(Arrays.asList(nextDayLunch, dinner, lunch));
+        TimeWindow lunchTime = new TimeWindow(LocalTime.of(11, 0), LocalTime.of(14, 0));
+
+        assertEquals(Arrays.asList(lunch, nextDayLunch),
+                uniqueBookingList.getBookingsBetween(LocalDateTime.MIN, LocalDateTime.MAX, lunchTime));
+        assertEquals(Collections.singletonList(nextDayLunch), uniqueBookingList.getBookingsBetween(
+                LocalDateTime.of(2025, 4, 5, 12, 30), LocalDateTime.MAX, lunchTime));
+        assertEquals(Arrays.asList(lunch, dinner, nextDayLunch),
+                uniqueBookingList.getBookingsBetween(LocalDateTime.MIN, LocalDateTime.MAX, TimeWindow.ALL_DAY));
+    }
+
+    @Test
+    public void getBookingsBetween_status_onlyBookingsWithThatStatus() {
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner, nextDayLunch));
+        uniqueBookingList.setBookingStatus(nextDayLunch.getBookingId(), Status.CANCELLED);
+        TimeWindow lunchTime = new TimeWindow(LocalTime.of(11, 0), LocalTime.of(14, 0));
+
+        assertEquals(Collections.singletonList(lunch), uniqueBookingList.getBookingsBetween(
+                LocalDateTime.MIN, LocalDateTime.MAX, lunchTime, Status.UPCOMING));
+        assertEquals(Collections.singletonList(nextDayLunch), uniqueBookingList.getBookingsBetween(
+                LocalDateTime.MIN, LocalDateTime.MAX, lunchTime, Status.CANCELLED));
+    }
+
+    @Test
+    public void getBookingsOn_afterRemove_bookingNotReturned() {
+        uniqueBookingList.add(lunch);
+        uniqueBookingList.add(dinner);
+        uniqueBookingList.removeById(lunch.getBookingId());
+
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 5)));
+    }
+
+    @Test
+    public void updateFields_newDateTime_dateIndexUpdated() {
+        uniqueBookingList.add(lunch);
+        uniqueBookingList.add(dinner);
+
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("bookingDateTime", LocalDateTime.of(2025, 4, 6, 9, 0));
+        uniqueBookingList.updateFields(lunch.getBookingId(), fieldsToEdit);
+
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 5)));
+        assertEquals(Collections.singletonList(lunch), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 6)));
+    }
+
+    @Test
+    public void updateFields_bookingDoesNotExist_throwsBookingNotFoundException() {
+        assertThrows(BookingNotFoundException.class, () -> uniqueBookingList.updateFields(-1, new HashMap<>()));
+    }
+
+    @Test
+    public void getSeatsTakenAt_followsAddEditMarkAndRemove() {
+        Booking party = new BookingBuilder().withBookingDateTime("2025-04-05T19:00").withPax("6").build();
+        Booking couple = new BookingBuilder().withBookingDateTime("2025-04-05T20:00").withPax("2").build();
+        LocalDateTime eightThirty = LocalDateTime.of(2025, 4, 5, 20, 30);
+        uniqueBookingList.add(party);
+        uniqueBookingList.add(couple);
+        assertEquals(8, uniqueBookingList.getSeatsTakenAt(eightThirty));
+
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("pax", 4);
+        uniqueBookingList.updateFields(couple.getBookingId(), fieldsToEdit);
+        assertEquals(10, uniqueBookingList.getSeatsTakenAt(eightThirty));
+
+        // The party has left by 9 PM
+        fieldsToEdit.clear();
+        fieldsToEdit.put("bookingDateTime", LocalDateTime.of(2025, 4, 5, 18, 30));
+        uniqueBookingList.updateFields(party.getBookingId(), fieldsToEdit);
+        assertEquals(4, uniqueBookingList.getSeatsTakenAt(eightThirty));
+
+        uniqueBookingList.setBookingStatus(couple.getBookingId(), Status.CANCELLED);
+        assertEquals(0, uniqueBookingList.getSeatsTakenAt(eightThirty));
+        assertEquals(6, uniqueBookingList.getPeakSeatsTakenDuring(LocalDateTime.of(2025, 4, 5, 17, 0)));
+
+        uniqueBookingList.setBookingStatus(couple.getBookingId(), Status.UPCOMING);
+        uniqueBookingList.remove(party);
+        assertEquals(4, uniqueBookingList.countUpcomingCoversBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void countUpcomingCoversBetween_setBookings_replacesCovers() {
+        uniqueBookingList.add(new BookingBuilder().withBookingDateTime("2025-04-05T19:00").withPax("6").build());
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner, nextDayLunch));
+
+        LocalDateTime start = LocalDateTime.of(2025, 4, 5, 0, 0);
+        assertEquals(2, uniqueBookingList.countUpcomingCoversBetween(start, start.plusDays(1)));
+        assertEquals(3, uniqueBookingList.countUpcomingCoversBetween(start, start.plusDays(2)));
+    }
+
+    @Test
+    public void countBookingsOn_statusChanged_countsFollowStatus() {
+        Booking secondLunch = new BookingBuilder().withBookingDateTime("2025-04-05T12:00").build();
+        uniqueBookingList.setBookings(Arrays.asList(lunch, secondLunch, dinner, nextDayLunch));
+        uniqueBookingList.setBookingStatus(dinner.getBookingId(), Status.CANCELLED);
+
+        LocalDate date = LocalDate.of(2025, 4, 5);
+        assertEquals(2, uniqueBookingList.countBookingsOn(date, Status.UPCOMING));
+        assertEquals(1, uniqueBookingList.countBookingsOn(date, Status.CANCELLED));
+        assertEquals(0, uniqueBookingList.countBookingsOn(date, Status.COMPLETED));
+        assertEquals(1, uniqueBookingList.countBookingsOn(LocalDate.of(2025, 4, 6), Status.UPCOMING));
+    }
+
+    @Test
+    public void getUpcomingBookings_returnsUpcomingEarliestFirst() {
+        uniqueBookingList.setBookings(Arrays.asList(nextDayLunch, dinner, lunch));
+        uniqueBookingList.setBookingStatus(dinner.getBookingId(), Status.COMPLETED);
+
+        assertEquals(Arrays.asList(lunch, nextDayLunch), uniqueBookingList.getUpcomingBookings());
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.getCancelledOrCompletedBookings());
+    }
+
+    @Test
+    public void setBookingStatus_movesBookingBetweenPartitions() {
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner));
+        assertEquals(2, uniqueBookingList.countBookings(Status.UPCOMING));
+        assertFalse(uniqueBookingList.hasBookings(Status.CANCELLED));
+
+        uniqueBookingList.setBookingStatus(lunch.getBookingId(), Status.CANCELLED);
+
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.getBookings(Status.UPCOMING));
+        assertEquals(Collections.singletonList(lunch), uniqueBookingList.getBookings(Status.CANCELLED));
+        assertTrue(uniqueBookingList.hasBookings(Status.CANCELLED));
+    }
+
+    @Test
+    public void getCancelledOrCompletedBookings_mergesPartitionsEarliestFirst() {
+        uniqueBookingList.setBookings(Arrays.asList(nextDayLunch, dinner, lunch));
+        uniqueBookingList.setBookingStatus(nextDayLunch.getBookingId(), Status.CANCELLED);
+        uniqueBookingList.setBookingStatus(lunch.getBookingId(), Status.CANCELLED);
+        uniqueBookingList.setBookingStatus(dinner.getBookingId(), Status.COMPLETED);
+
+        assertEquals(Arrays.asList(lunch, dinner, nextDayLunch), uniqueBookingList.getCancelledOrCompletedBookings());
+    }
+
+    @Test
+    public void clearBookings_removesWholePartitions() {
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner, nextDayLunch));
+        uniqueBookingList.setBookingStatus(lunch.getBookingId(), Status.COMPLETED);
+        uniqueBookingList.setBookingStatus(dinner.getBookingId(), Status.CANCELLED);
+
+        List<Booking> cleared = uniqueBookingList.clearBookings(Status.CANCELLED, Status.COMPLETED);
+
+        assertEquals(2, cleared.size());
+        assertFalse(uniqueBookingList.hasBookings(Status.CANCELLED));
+        assertFalse(uniqueBookingList.hasBookings(Status.COMPLETED));
+        assertFalse(uniqueBookingList.contains(lunch.getBookingId()));
+        assertEquals(Collections.singletonList(nextDayLunch), uniqueBookingList.asUnmodifiableObservableList());
+        assertEquals(Collections.emptyList(), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 4, 5)));
+    }
+
+    @Test
+    public void removeById_middleBooking_remainingBookingsStillAddressable() {
+        uniqueBookingList.add(lunch);
+        uniqueBookingList.add(dinner);
+        uniqueBookingList.add(nextDayLunch);
+
+        uniqueBookingList.removeById(lunch.getBookingId());
+        assertEquals(2, uniqueBookingList.asUnmodifiableObservableList().size());
+        assertFalse(uniqueBookingList.asUnmodifiableObservableList().contains(lunch));
+
+        // the booking moved into the freed slot can still be replaced and removed by ID
+        Booking editedNextDayLunch = new BookingBuilder(nextDayLunch).withRemarks("Window seat").build();
+        uniqueBookingList.setBooking(nextDayLunch, editedNextDayLunch);
+        uniqueBookingList.remove(editedNextDayLunch);
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearBookings_firesSingleChangeEvent() {
+        uniqueBookingList.setBookings(Arrays.asList(lunch, dinner, nextDayLunch));
+        uniqueBookingList.setBookingStatus(lunch.getBookingId(), Status.COMPLETED);
+        uniqueBookingList.setBookingStatus(nextDayLunch.getBookingId(), Status.CANCELLED);
+
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueBookingList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Booking>) change -> changeCount.incrementAndGet());
+        uniqueBookingList.clearBookings(Status.CANCELLED, Status.COMPLETED);
+
+        assertEquals(1, changeCount.get());
+        assertEquals(Collections.singletonList(dinner), uniqueBookingList.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+public class BookingIdSetTest {
+
+    private static final int BOOKING_COUNT = 1_000_000;
+    private static final int BOOKINGS_PER_PERSON = 500;
+
+    @Test
+    public void add_unorderedIds_keptSortedWithoutDuplicates() {
+        BookingIdSet set = new BookingIdSet();
+        assertTrue(set.add(5));
+        assertTrue(set.add(1));
+        assertTrue(set.add(9));
+        assertTrue(set.add(3));
+        assertFalse(set.add(5));
+        assertArrayEquals(new int[] {1, 3, 5, 9}, set.toIntArray());
+    }
+
+    @Test
+    public void of_unsortedIdsWithDuplicates_sortedWithoutDuplicates() {
+        BookingIdSet set = BookingIdSet.of(4, 2, 4, 8, 2);
+        assertArrayEquals(new int[] {2, 4, 8}, set.toIntArray());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void contains() {
+        BookingIdSet set = BookingIdSet.of(1, 3, 5);
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(4));
+        assertTrue(set.contains((Object) 5));
+        assertFalse(set.contains("5"));
+    }
+
+    @Test
+    public void remove() {
+        BookingIdSet set = BookingIdSet.of(1, 3, 5);
+        assertTrue(set.remove(3));
+        assertFalse(set.remove(3));
+        assertTrue(set.remove((Object) 5));
+        assertArrayEquals(new int[] {1}, set.toIntArray());
+    }
+
+    @Test
+    public void iterator_remove_removesCurrentId() {
+        BookingIdSet set = BookingIdSet.of(1, 2, 3, 4);
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new int[] {1, 3}, set.toIntArray());
+    }
+
+    @Test
+    public void forEachId_modifiedDuringIteration_throwsConcurrentModificationException() {
+        BookingIdSet set = BookingIdSet.of(1, 2, 3);
+        assertThrows(ConcurrentModificationException.class, () -> set.forEachId(set::remove));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameIdsAsHashSet_equal() {
+        BookingIdSet set = BookingIdSet.of(1, 3, 5);
+        Set<Integer> hashSet = new HashSet<>(List.of(5, 3, 1));
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(set, new BookingIdSet(hashSet));
+        assertFalse(set.equals(BookingIdSet.of(1, 3)));
+    }
+
+    @Test
+    public void memoryFootprint_millionBookings_farSmallerThanHashSet() {
+        long hashSetBytes = measureRetainedBytes(personIndex -> {
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 0; i < BOOKINGS_PER_PERSON; i++) {
+                ids.add(personIndex * BOOKINGS_PER_PERSON + i);
+            }
+            return ids;
+        });
+        long bookingIdSetBytes = measureRetainedBytes(personIndex -> {
+            BookingIdSet ids = new BookingIdSet();
+            for (int i = 0; i < BOOKINGS_PER_PERSON; i++) {
+                ids.add(personIndex * BOOKINGS_PER_PERSON + i);
+            }
+            return ids;
+        });
+
+        // About 50 bytes per ID in a HashSet, against 4 to 6 bytes per ID in a BookingIdSet
+        assertTrue(bookingIdSetBytes * 4 < hashSetBytes,
+                "BookingIdSet used " + bookingIdSetBytes + " bytes, HashSet used " + hashSetBytes + " bytes");
+    }
+
+    /**
+     * Returns roughly how many bytes of heap the sets created by {@code newPersonBookingIds}, one per person, take up
+     * for {@code BOOKING_COUNT} bookings in total.
+     */
+    private static long measureRetainedBytes(IntFunction<Set<Integer>> newPersonBookingIds) {
+        long before = usedMemoryAfterGc();
+        List<Set<Integer>> sets = new ArrayList<>();
+        for (int personIndex = 0; personIndex < BOOKING_COUNT / BOOKINGS_PER_PERSON; personIndex++) {
+            sets.add(newPersonBookingIds.apply(personIndex));
+        }
+        long after = usedMemoryAfterGc();
+        assertEquals(BOOKING_COUNT, sets.stream().mapToInt(Set::size).sum());
+        return after - before;
+    }
+
+    private static long usedMemoryAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
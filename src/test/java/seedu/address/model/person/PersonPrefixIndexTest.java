@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPrefixIndexTest {
+
+    private static final int LARGE_PERSON_COUNT = 100_000;
+
+    private final PersonPrefixIndex prefixIndex = new PersonPrefixIndex();
+
+    @Test
+    public void findByPhonePrefix_matchingPersons_inOrderOfPhone() {
+        Person amy = new PersonBuilder().withName("Amy").withPhone("98761111").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("98760000").build();
+        Person carl = new PersonBuilder().withName("Carl").withPhone("98771111").build();
+        addPersons(amy, bob, carl);
+
+        assertEquals(List.of(bob, amy), prefixIndex.findByPhonePrefix("9876", 5));
+        assertEquals(List.of(bob, amy, carl), prefixIndex.findByPhonePrefix("987", 5));
+        assertEquals(List.of(bob), prefixIndex.findByPhonePrefix("987", 1));
+        assertTrue(prefixIndex.findByPhonePrefix("8", 5).isEmpty());
+    }
+
+    @Test
+    public void findByNamePrefix_ignoresCase_inOrderOfName() {
+        addPersons(ELLE, DANIEL, BENSON, ALICE);
+        assertEquals(List.of(ALICE), prefixIndex.findByNamePrefix("ALI", 5));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), prefixIndex.findByNamePrefix("", 3));
+        assertTrue(prefixIndex.findByNamePrefix("meier", 5).isEmpty());
+    }
+
+    @Test
+    public void findByNamePrefix_sameName_allPersonsFound() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").build();
+        Person otherAmy = new PersonBuilder().withName("Amy Bee").withPhone("22222222").build();
+        addPersons(amy, otherAmy);
+        assertEquals(List.of(amy, otherAmy), prefixIndex.findByNamePrefix("amy bee", 5));
+    }
+
+    @Test
+    public void remove_removedPerson_notFound() {
+        addPersons(ALICE, BENSON);
+        prefixIndex.remove(ALICE);
+        assertTrue(prefixIndex.findByNamePrefix("alice", 5).isEmpty());
+        assertTrue(prefixIndex.findByPhonePrefix(ALICE.getPhone().value, 5).isEmpty());
+        assertEquals(List.of(BENSON), prefixIndex.findByNamePrefix("b", 5));
+
+        prefixIndex.clear();
+        assertTrue(prefixIndex.findByNamePrefix("", 5).isEmpty());
+    }
+
+    @Test
+    public void findByPhonePrefix_manyPersons_costIndependentOfSize() {
+        for (int i = 0; i < LARGE_PERSON_COUNT; i++) {
+            prefixIndex.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(5, prefixIndex.findByPhonePrefix("9000" + (i % 10), 5).size());
+        }
+        long elapsedMicrosPerLookup = (System.nanoTime() - start) / 10_000 / 1000;
+
+        assertEquals(new Phone("90012345"), prefixIndex.findByPhonePrefix("90012345", 5).get(0).getPhone());
+        assertEquals(11, prefixIndex.findByNamePrefix("person 9999", 20).size());
+        assertTrue(elapsedMicrosPerLookup < 1000, "A lookup took " + elapsedMicrosPerLookup + " microseconds");
+    }
+
+    private void addPersons(Person... persons) {
+        for (Person person : persons) {
+            prefixIndex.add(person);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -47,6 +49,48 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPersonByPhone_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertSame(ALICE, uniquePersonList.getPersonByPhone(ALICE.getPhone()));
+        assertNull(uniquePersonList.getPersonByPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void getPersonByPhone_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getPersonByPhone(ALICE.getPhone()));
+        assertSame(BOB, uniquePersonList.getPersonByPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void getPersonsWithPrefix_afterChanges_prefixIndexUpdated() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), uniquePersonList.getPersonsWithNamePrefix("alicia", 5));
+        assertTrue(uniquePersonList.getPersonsWithNamePrefix("alice", 5).isEmpty());
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertTrue(uniquePersonList.getPersonsWithPhonePrefix(ALICE.getPhone().value, 5).isEmpty());
+        assertEquals(List.of(BOB), uniquePersonList.getPersonsWithPhonePrefix(BOB.getPhone().value, 5));
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getPersonsWithNamePrefix("", 5).isEmpty());
+    }
+
+    @Test
+    public void getPersonByPhone_afterRemoveAndSetPersons_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.getPersonByPhone(ALICE.getPhone()));
+        assertSame(BOB, uniquePersonList.getPersonByPhone(BOB.getPhone()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
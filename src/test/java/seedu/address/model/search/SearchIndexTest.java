@@ -0,0 +1,164 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.BookingIdSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.search.SearchQuery.Term;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private static final int LARGE_PERSON_COUNT = 100_000;
+
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final Map<Integer, Phone> bookingPhones = new HashMap<>();
+    private final Map<Phone, BookingIdSet> personBookingIds = new HashMap<>();
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("o", "brien", "jurong", "08", "111"), SearchIndex.tokenize("O'Brien, Jurong #08-111 o"));
+        assertTrue(SearchIndex.tokenize("  --  ").isEmpty());
+        assertTrue(SearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    public void search_personFields_matchesNameEmailAddressAndTags() {
+        addPersons(ALICE, BENSON, CARL);
+        assertEquals(Set.of(ALICE.getPhone()), search(List.of(term("pauline"))));
+        assertEquals(Set.of(BENSON.getPhone()), search(List.of(term("johnd"))));
+        assertEquals(Set.of(ALICE.getPhone()), search(List.of(term("jurong"))));
+        assertEquals(Set.of(ALICE.getPhone(), BENSON.getPhone()), search(List.of(term("friends"))));
+        assertEquals(Set.of(), search(List.of(term("paul"))));
+    }
+
+    @Test
+    public void search_prefixTerm_matchesEveryWordWithPrefix() {
+        addPersons(ALICE, BENSON, CARL);
+        assertEquals(Set.of(ALICE.getPhone()), search(List.of(prefix("paul"))));
+        assertEquals(Set.of(BENSON.getPhone()), search(List.of(prefix("owes"))));
+        assertEquals(Set.of(ALICE.getPhone(), BENSON.getPhone(), CARL.getPhone()), search(List.of(prefix("exam"))));
+    }
+
+    @Test
+    public void search_andOrClauses_intersectedThenUnited() {
+        addPersons(ALICE, BENSON, CARL, DANIEL);
+        assertEquals(Set.of(BENSON.getPhone(), DANIEL.getPhone()), search(List.of(term("meier"), term("friends"))));
+        assertEquals(Set.of(BENSON.getPhone()), search(List.of(term("meier"), term("owesmoney"))));
+        assertEquals(Set.of(ALICE.getPhone(), CARL.getPhone()),
+                search(List.of(term("alice")), List.of(term("kurz"), prefix("wall"))));
+    }
+
+    @Test
+    public void search_bookingRemarks_matchesPersonWhoMadeBooking() {
+        addPersons(ALICE, BENSON);
+        addBooking(new BookingBuilder().withBookingPerson(BENSON).withRemarks("Birthday cake").build());
+        assertEquals(Set.of(BENSON.getPhone()), search(List.of(prefix("birth"))));
+        assertEquals(Set.of(BENSON.getPhone()), search(List.of(term("cake"), term("meier"))));
+        assertEquals(Set.of(), search(List.of(term("cake"), term("alice"))));
+    }
+
+    @Test
+    public void search_commonBookingPrefixTerm_probedWithoutResolvingBookings() {
+        addPersons(ALICE, BENSON, CARL, DANIEL);
+        addBooking(new BookingBuilder().withBookingPerson(ALICE).withRemarks("Birthday dinner").build());
+        addBooking(new BookingBuilder().withBookingPerson(BENSON).withRemarks("Birthday cake").build());
+        addBooking(new BookingBuilder().withBookingPerson(CARL).withRemarks("Birthplace tour").build());
+
+        List<Integer> resolvedBookingIds = new ArrayList<>();
+        IntFunction<Phone> recordingBookingPhone = bookingId -> {
+            resolvedBookingIds.add(bookingId);
+            return bookingPhones.get(bookingId);
+        };
+        SearchQuery query = new SearchQuery(List.of(List.of(prefix("birth"), term("meier"))));
+        assertEquals(Set.of(BENSON.getPhone()), searchIndex.search(query, recordingBookingPhone, this::bookingIdsOf));
+        assertEquals(List.of(), resolvedBookingIds);
+    }
+
+    @Test
+    public void removeAndClear_removedEntriesNoLongerMatch() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        searchIndex.addPerson(amy);
+        Person editedAmy = new PersonBuilder(amy).withName("Amy Cee").build();
+        searchIndex.removePerson(amy);
+        searchIndex.addPerson(editedAmy);
+        assertEquals(Set.of(), search(List.of(term("bee"))));
+        assertEquals(Set.of(amy.getPhone()), search(List.of(term("cee"))));
+
+        Booking booking = new BookingBuilder().withBookingPerson(editedAmy).withRemarks("window seat").build();
+        addBooking(booking);
+        searchIndex.removeBooking(booking);
+        assertEquals(Set.of(), search(List.of(term("window"))));
+
+        addBooking(booking);
+        searchIndex.clearBookings();
+        assertEquals(Set.of(), search(List.of(term("window"))));
+        searchIndex.clearPersons();
+        assertEquals(Set.of(), search(List.of(prefix("a"))));
+    }
+
+    @Test
+    public void search_manyPersons_answeredFromIndex() {
+        for (int i = 0; i < LARGE_PERSON_COUNT; i++) {
+            searchIndex.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1, search(List.of(term("person"), term(String.valueOf(i * 97)))).size());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(Set.of(new Phone("10012345")), search(List.of(term("12345"))));
+        assertEquals(11, search(List.of(prefix("person9999"))).size());
+        assertTrue(elapsedMillis < 5000, "1000 searches took " + elapsedMillis + " ms");
+    }
+
+    private void addPersons(Person... persons) {
+        for (Person person : persons) {
+            searchIndex.addPerson(person);
+        }
+    }
+
+    private void addBooking(Booking booking) {
+        bookingPhones.put(booking.getBookingId(), booking.getBookingPerson().getPhone());
+        personBookingIds.computeIfAbsent(booking.getBookingPerson().getPhone(), unused -> new BookingIdSet())
+                .add(booking.getBookingId());
+        searchIndex.addBooking(booking);
+    }
+
+    @SafeVarargs
+    private Set<Phone> search(List<Term>... clauses) {
+        return searchIndex.search(new SearchQuery(List.of(clauses)), bookingPhones::get, this::bookingIdsOf);
+    }
+
+    private BookingIdSet bookingIdsOf(Phone phone) {
+        return personBookingIds.getOrDefault(phone, new BookingIdSet());
+    }
+
+    private static Term term(String token) {
+        return new Term(token, false);
+    }
+
+    private static Term prefix(String token) {
+        return new Term(token, true);
+    }
+}
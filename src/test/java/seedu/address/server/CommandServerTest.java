@@ -0,0 +1,206 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandServerTest {
+
+    private static final String ADD_PERSON = "padd n/Amy Bee p/85355255 e/amy@gmail.com a/123, Jurong West Ave 6";
+    private static final String ADD_BOOKING = "badd d/2030-01-01 7:00 PM p/85355255 x/2";
+    private static final String FILTER_BY_PHONE = "filter p/85355255";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model = new ModelManager();
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new CommandServer(new LogicManager(model, createStorage()), 0);
+        server.start();
+    }
+
+    private StorageManager createStorage() {
+        return new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void post_updatesThenQuery_queryListsBookings() throws Exception {
+        assertEquals(200, post(ADD_PERSON).statusCode());
+        assertEquals(200, post(ADD_BOOKING).statusCode());
+
+        HttpResponse<String> response = post(FILTER_BY_PHONE);
+        assertEquals(200, response.statusCode());
+        Map<?, ?> reply = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(String.format(FilterCommand.MESSAGE_SUCCESS, " for phone number 85355255"),
+                reply.get("feedback"));
+        List<?> bookings = (List<?>) reply.get("bookings");
+        assertEquals(1, bookings.size());
+        assertEquals("85355255", ((Map<?, ?>) bookings.get(0)).get("phone"));
+    }
+
+    @Test
+    public void post_query_modelFiltersUntouched() throws Exception {
+        post(ADD_PERSON);
+        post(ADD_BOOKING);
+
+        post(FILTER_BY_PHONE + " s/cancelled");
+        assertEquals(Model.PREDICATE_SHOW_ALL_BOOKINGS, model.getCurrentBookingPredicate());
+    }
+
+    @Test
+    public void post_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post("uicfhmowqewca");
+        assertEquals(400, response.statusCode());
+        assertEquals(false, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+    }
+
+    @Test
+    public void get_commands_methodNotAllowed() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(commandsUri()).GET().build();
+        assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void post_concurrentUpdatesAndQueries_allUpdatesApplied() throws Exception {
+        post(ADD_PERSON);
+        int bookingCount = 200;
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < bookingCount; i++) {
+                responses.add(clients.submit(() -> post(ADD_BOOKING)));
+                responses.add(clients.submit(() -> post(FILTER_BY_PHONE)));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get().statusCode());
+            }
+        } finally {
+            clients.shutdown();
+        }
+
+        Map<?, ?> reply = JsonUtil.fromJsonString(post(FILTER_BY_PHONE).body(), Map.class);
+        Set<Object> bookingIds = ((List<?>) reply.get("bookings")).stream()
+                .map(booking -> ((Map<?, ?>) booking).get("bookingId"))
+                .collect(Collectors.toSet());
+        assertEquals(bookingCount, bookingIds.size());
+        assertEquals(bookingCount, model.getAddressBook().getBookingList().size());
+    }
+
+    @Test
+    public void post_fromWebPage_forbiddenAndNotExecuted() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(commandsUri())
+                .header("Content-Type", "application/json")
+                .header("Origin", "https://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString(toJsonRequest(ADD_PERSON)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode());
+        assertEquals(CommandServer.MESSAGE_CROSS_ORIGIN_REQUEST,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void post_plainText_unsupportedAndNotExecuted() throws Exception {
+        // The content type a web page can send without a CORS preflight
+        HttpRequest request = HttpRequest.newBuilder(commandsUri())
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(toJsonRequest(ADD_PERSON)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(415, response.statusCode());
+        assertEquals(CommandServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void post_noCommandInBody_badRequest() throws Exception {
+        HttpResponse<String> response = postJson("{\"text\": \"list\"}");
+        assertEquals(400, response.statusCode());
+        assertEquals(CommandServer.MESSAGE_INVALID_REQUEST,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+        assertEquals(400, postJson(ADD_PERSON).statusCode());
+    }
+
+    @Test
+    public void post_unexpectedFailure_internalServerErrorReply() throws Exception {
+        server.stop();
+        LogicManager failingLogic = new LogicManager(model, createStorage()) {
+            @Override
+            public CompletableFuture<CommandResult> executeAsync(Command command) {
+                return CompletableFuture.failedFuture(new DateTimeException("Invalid date"));
+            }
+        };
+        server = new CommandServer(failingLogic, 0);
+        server.start();
+
+        HttpResponse<String> response = post(ADD_PERSON);
+        assertEquals(500, response.statusCode());
+        assertEquals(false, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        return postJson(toJsonRequest(commandText));
+    }
+
+    private HttpResponse<String> postJson(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(commandsUri())
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String toJsonRequest(String commandText) throws Exception {
+        return JsonUtil.toCompactJsonString(Map.of("command", commandText));
+    }
+
+    private URI commandsUri() {
+        return URI.create("http://localhost:" + server.getPort() + CommandServer.COMMANDS_PATH);
+    }
+}
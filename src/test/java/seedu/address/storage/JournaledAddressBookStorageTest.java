@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_journaledAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        AddressBook original = new AddressBook();
+        Person amy = new PersonBuilder().build();
+        original.addPerson(amy);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+
+        // Add a person and a booking, then edit and cancel the booking
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        original.addPerson(bob);
+        Booking booking = new BookingBuilder().withBookingPerson(bob).build();
+        bob.addBookingID(booking.getBookingId());
+        original.addBooking(booking);
+        storage.saveAddressBook(original);
+
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("remarks", "Window seat");
+        original.updateBookingFields(booking.getBookingId(), fieldsToEdit);
+        original.setBookingStatus(booking.getBookingId(), Status.CANCELLED);
+        original.removePerson(amy);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(journalPath));
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Booking readBackBooking = readBack.getBookingList().get(0);
+        assertEquals("Window seat", readBackBooking.getRemarks());
+        assertEquals(Status.CANCELLED, readBackBooking.getStatus());
+    }
+
+    @Test
+    public void readAddressBook_deletedBookingInJournal_bookingIdNotReused() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        AddressBook original = new AddressBook();
+        Person amy = new PersonBuilder().build();
+        original.addPerson(amy);
+        storage.saveAddressBook(original);
+
+        Booking booking = new BookingBuilder().withBookingPerson(amy).build();
+        amy.addBookingID(booking.getBookingId());
+        original.addBooking(booking);
+        storage.saveAddressBook(original);
+        original.removeBooking(booking);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(readBack.getBookingList().isEmpty());
+        assertEquals(booking.getBookingId() + 1, readBack.getNextBookingId());
+    }
+
+    @Test
+    public void readAddressBook_deletedBookingNotLast_matchesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        AddressBook original = new AddressBook();
+        Person amy = new PersonBuilder().build();
+        original.addPerson(amy);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Booking booking = new BookingBuilder().withBookingPerson(amy).build();
+            amy.addBookingID(booking.getBookingId());
+            original.addBooking(booking);
+            bookings.add(booking);
+        }
+        storage.saveAddressBook(original);
+
+        // The last booking is moved into the slot of the deleted one
+        original.removeBooking(bookings.get(0));
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(2, readBack.getBookingList().size());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastInterval_checkpointWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 3; i++) {
+            original.addPerson(new PersonBuilder().withPhone("9000000" + i).build());
+            storage.saveAddressBook(original);
+        }
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanCheckpoint_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+
+        AddressBook original = new AddressBook();
+        Person amy = new PersonBuilder().build();
+        original.addPerson(amy);
+        storage.saveAddressBook(original);
+        original.removePerson(amy);
+        storage.saveAddressBook(original);
+        byte[] oldJournal = Files.readAllBytes(journalPath);
+
+        original.addPerson(amy);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+
+        // As if the app stopped after writing the checkpoint but before deleting the old journal
+        Files.write(journalPath, oldJournal);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // A new storage numbers its next checkpoint past the old journal, then journals after it as usual
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath, 1);
+        restartedStorage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().withPhone("22222222").build());
+        restartedStorage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointWriteFails_snapshotAndJournalKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().withPhone("11111111").build());
+        storage.saveAddressBook(original);
+        AddressBook lastSaved = new AddressBook(original);
+
+        // A directory where the checkpoint is written fails the write, as a full disk would
+        Path tempFilePath = JsonAddressBookStorage.getTempFilePath(filePath);
+        Files.createDirectories(tempFilePath.resolve("blocker"));
+        original.addPerson(new PersonBuilder().withPhone("22222222").build());
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        assertEquals(lastSaved, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // The failed checkpoint is written by the next save
+        Files.delete(tempFilePath.resolve("blocker"));
+        Files.delete(tempFilePath);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(tempFilePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().build());
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"phone\":\"9".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
@@ -31,7 +31,7 @@ public class JsonAdaptedPersonTest {
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList());
-    private static final List<Integer> VALID_BOOKINGIDS = BENSON.getBookingIDs().stream().toList();
+    private static final int[] VALID_BOOKINGIDS = BENSON.getBookingIDs().toIntArray();
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
@@ -5,6 +5,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +23,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_BOOKINGS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path INVALID_BOOKING_FILE = TEST_DATA_FOLDER.resolve("invalidBookingAddressBook.json");
+    private static final Path BOOKINGS_WITHOUT_NEXT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("typicalBookingsAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final int LARGE_ADDRESS_BOOK_SIZE = 50_000;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -63,4 +68,35 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_noNextBookingId_continuesAfterHighestBookingId() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(BOOKINGS_WITHOUT_NEXT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(7, dataFromFile.toModelType().getNextBookingId());
+    }
+
+    @Test
+    public void toModelType_savedNextBookingId_keptAfterBookingsDeleted() throws Exception {
+        AddressBook addressBook = TypicalBookings.getTypicalAddressBookWithBookings();
+        int nextBookingId = addressBook.getNextBookingId();
+        new ArrayList<>(addressBook.getBookingList()).forEach(addressBook::removeBooking);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        AddressBook readBack = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(nextBookingId, readBack.getNextBookingId());
+    }
+
+    @Test
+    public void toModelType_largeAddressBook_loadsAllPersons() throws Exception {
+        // Would take minutes if duplicate detection on the load path were quadratic
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(10_000_000 + i),
+                    "person" + i + "@example.com", "Blk " + i, null, false, null));
+        }
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, new ArrayList<>(), null).toModelType();
+        assertEquals(LARGE_ADDRESS_BOOK_SIZE, addressBook.getPersonList().size());
+        assertEquals(LARGE_ADDRESS_BOOK_SIZE, new AddressBook(addressBook).getPersonList().size());
+    }
 }
@@ -1,10 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +20,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -65,4 +72,127 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_inBackground_writtenAfterFlush() throws Exception {
+        StorageManager backgroundStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().build());
+        backgroundStorage.saveAddressBook(original);
+        backgroundStorage.flush();
+
+        assertEquals(original, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void close_inBackground_pendingSaveWrittenAndWriterStopped() throws Exception {
+        AtomicReference<Thread> writerThread = new AtomicReference<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+                PendingSave save = super.prepareSave(addressBook, filePath);
+                return () -> {
+                    writerThread.set(Thread.currentThread());
+                    save.write();
+                };
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(original);
+        backgroundStorage.close();
+
+        assertEquals(original, new AddressBook(backgroundStorage.readAddressBook().get()));
+        writerThread.get().join(5000);
+        assertFalse(writerThread.get().isAlive());
+        // Nothing is left to write once closed
+        backgroundStorage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_savesWhileWriting_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage slowStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+                return () -> {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    writeCount.incrementAndGet();
+                };
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(slowStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        backgroundStorage.saveAddressBook(new AddressBook());
+        firstWriteStarted.await();
+        for (int i = 0; i < 5; i++) {
+            backgroundStorage.saveAddressBook(new AddressBook());
+        }
+        releaseFirstWrite.countDown();
+        backgroundStorage.flush();
+
+        assertEquals(2, writeCount.get());
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_throwsIoException() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+                return () -> {
+                    throw new IOException("disk full");
+                };
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        backgroundStorage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, "disk full", backgroundStorage::flush);
+
+        // a reported failure is not reported again
+        backgroundStorage.flush();
+    }
+
+    @Test
+    public void checkFailedSave_backgroundWriteFailed_throwsIoExceptionOnce() throws Exception {
+        CountDownLatch writeAttempted = new CountDownLatch(1);
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+                return () -> {
+                    writeAttempted.countDown();
+                    throw new IOException("disk full");
+                };
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        backgroundStorage.saveAddressBook(new AddressBook());
+        writeAttempted.await();
+        // The writer records the failure just after the write throws
+        IOException failure = null;
+        for (int attempt = 0; attempt < 1000 && failure == null; attempt++) {
+            try {
+                backgroundStorage.checkFailedSave();
+                Thread.sleep(5);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        assertEquals("disk full", failure.getMessage());
+        backgroundStorage.checkFailedSave();
+    }
+
 }
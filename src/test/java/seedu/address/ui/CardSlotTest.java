@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CardSlotTest {
+
+    @Test
+    public void show_scrollThroughManyItems_oneCardPerCell() {
+        AtomicInteger cardCount = new AtomicInteger();
+        // A card that records the items shown on it, in place of a real card that needs the JavaFX toolkit
+        CardSlot<Integer, List<Integer>> firstCell = new CardSlot<>(() -> {
+            cardCount.incrementAndGet();
+            return new ArrayList<>();
+        }, List::add);
+        CardSlot<Integer, List<Integer>> secondCell = new CardSlot<>(() -> {
+            cardCount.incrementAndGet();
+            return new ArrayList<>();
+        }, List::add);
+
+        // Cells are emptied and refilled as the list scrolls, the way ListView calls updateItem
+        assertNull(firstCell.show(null, true));
+        List<Integer> firstCard = firstCell.show(0, false);
+        List<Integer> secondCard = secondCell.show(1, false);
+        for (int i = 2; i < 10_000; i += 2) {
+            assertSame(firstCard, firstCell.show(i, false));
+            assertSame(secondCard, secondCell.show(i + 1, false));
+            if (i % 100 == 0) {
+                assertNull(secondCell.show(null, true));
+            }
+        }
+
+        assertEquals(2, cardCount.get());
+        assertEquals(5_000, firstCard.size());
+        assertEquals(9_998, firstCard.get(firstCard.size() - 1));
+    }
+}
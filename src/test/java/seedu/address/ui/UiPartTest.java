@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
@@ -57,6 +58,16 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl, root).getRoot());
     }
 
+    @Test
+    public void constructor_sameFileLoadedTwice_separateObjectHierarchies() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestFxmlObject first = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        TestFxmlObject second = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+
+        assertEquals(VALID_FILE_ROOT, second);
+        assertNotSame(first, second);
+    }
+
     @Test
     public void constructor_nullFileName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((String) null));